@@ -22,6 +22,8 @@ public class BenchmarkRunner {
         System.out.println("- Medium graphs: 10 graphs with < 300 vertices");
         System.out.println("- Large graphs:  10 graphs with < 1000 vertices");
         System.out.println("- Extra graphs:  5 graphs with < 3000 vertices");
+        System.out.println("- Workload families: power-law (BA, R-MAT), grid, complete, clustered");
+        System.out.println("  with uniform, Zipf and few-distinct weights");
         System.out.println("Total: " + specs.size() + " test graphs");
         System.out.println();
         
@@ -32,7 +34,7 @@ public class BenchmarkRunner {
             System.out.printf("[%2d/%2d] Testing %s...", i + 1, specs.size(), spec.getName());
             
             try {
-                Graph graph = generator.generateGraph(spec.getVertices(), spec.getEdges(), spec.getMaxWeight());
+                Graph graph = generator.generateGraph(spec);
                 
                 // Run Prim's algorithm
                 PrimAlgorithm prim = new PrimAlgorithm();
@@ -51,8 +53,9 @@ public class BenchmarkRunner {
                 
                 results.add(new BenchmarkResult(
                     spec.getName(),
-                    spec.getVertices(),
-                    spec.getEdges(),
+                    spec.getCategory(),
+                    graph.getVertices(),
+                    graph.getEdgeCount(),
                     primResult,
                     kruskalResult
                 ));
@@ -112,39 +115,27 @@ public class BenchmarkRunner {
     }
     
     private static void printSummary(List<BenchmarkResult> results) {
-        System.out.println("\n" + "=".repeat(80));
+        System.out.println("\n" + "=".repeat(91));
         System.out.println("PERFORMANCE SUMMARY");
-        System.out.println("=".repeat(80));
-        
-        Map<String, List<BenchmarkResult>> categories = new HashMap<>();
-        categories.put("Small", new ArrayList<>());
-        categories.put("Medium", new ArrayList<>());
-        categories.put("Large", new ArrayList<>());
-        categories.put("Extra", new ArrayList<>());
+        System.out.println("=".repeat(91));
         
+        // Group by category, in the order categories first appear
+        Map<String, List<BenchmarkResult>> categories = new LinkedHashMap<>();
         for (BenchmarkResult result : results) {
-            if (result.getName().startsWith("small")) {
-                categories.get("Small").add(result);
-            } else if (result.getName().startsWith("medium")) {
-                categories.get("Medium").add(result);
-            } else if (result.getName().startsWith("large")) {
-                categories.get("Large").add(result);
-            } else if (result.getName().startsWith("extra")) {
-                categories.get("Extra").add(result);
-            }
+            categories.computeIfAbsent(result.getCategory(), k -> new ArrayList<>()).add(result);
         }
         
-        for (String category : Arrays.asList("Small", "Medium", "Large", "Extra")) {
-            List<BenchmarkResult> categoryResults = categories.get(category);
-            if (categoryResults.isEmpty()) continue;
+        for (Map.Entry<String, List<BenchmarkResult>> entry : categories.entrySet()) {
+            String category = Character.toUpperCase(entry.getKey().charAt(0)) + entry.getKey().substring(1);
+            List<BenchmarkResult> categoryResults = entry.getValue();
             
             System.out.println("\n" + category + " Graphs:");
-            System.out.println("-".repeat(80));
-            System.out.printf("%-15s %8s %8s | %12s %12s | %12s %12s\n",
+            System.out.println("-".repeat(91));
+            System.out.printf("%-26s %8s %8s | %12s %12s | %12s %12s\n",
                 "Name", "Vertices", "Edges", 
                 "Prim Ops", "Prim Time", 
                 "Kruskal Ops", "Kruskal Time");
-            System.out.println("-".repeat(80));
+            System.out.println("-".repeat(91));
             
             double totalPrimTime = 0;
             double totalKruskalTime = 0;
@@ -152,7 +143,7 @@ public class BenchmarkRunner {
             int kruskalWins = 0;
             
             for (BenchmarkResult result : categoryResults) {
-                System.out.printf("%-15s %8d %8d | %12d %10.2fms | %12d %10.2fms",
+                System.out.printf("%-26s %8d %8d | %12d %10.2fms | %12d %10.2fms",
                     result.getName(),
                     result.getVertices(),
                     result.getEdges(),
@@ -174,25 +165,27 @@ public class BenchmarkRunner {
                 totalKruskalTime += result.getKruskalResult().getExecutionTimeMs();
             }
             
-            System.out.println("-".repeat(80));
+            System.out.println("-".repeat(91));
             System.out.printf("Average time: Prim = %.2fms, Kruskal = %.2fms\n",
                 totalPrimTime / categoryResults.size(),
                 totalKruskalTime / categoryResults.size());
             System.out.printf("Faster: Prim = %d times, Kruskal = %d times\n", primWins, kruskalWins);
         }
         
-        System.out.println("\n" + "=".repeat(80));
+        System.out.println("\n" + "=".repeat(91));
     }
     
     private static class BenchmarkResult {
         private final String name;
+        private final String category;
         private final int vertices;
         private final int edges;
         private final MSTResult primResult;
         private final MSTResult kruskalResult;
         
-        public BenchmarkResult(String name, int vertices, int edges, MSTResult primResult, MSTResult kruskalResult) {
+        public BenchmarkResult(String name, String category, int vertices, int edges, MSTResult primResult, MSTResult kruskalResult) {
             this.name = name;
+            this.category = category;
             this.vertices = vertices;
             this.edges = edges;
             this.primResult = primResult;
@@ -203,6 +196,10 @@ public class BenchmarkRunner {
             return name;
         }
         
+        public String getCategory() {
+            return category;
+        }
+        
         public int getVertices() {
             return vertices;
         }
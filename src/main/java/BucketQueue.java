@@ -0,0 +1,112 @@
+package main.java;
+
+import java.util.Arrays;
+
+/**
+ * Bucket queue for small integer key ranges: one doubly linked list per key
+ * value, so insert and decrease-key are O(1). extractMin scans upward from a
+ * cursor that only moves back when a smaller key is inserted, which costs at
+ * most O(maxKey) per extraction and is cheap when the weight range is small.
+ * Keys must be non-negative.
+ */
+public class BucketQueue implements IndexedPriorityQueue {
+    private static final int NONE = -1;
+    private static final long MAX_BUCKETS = 1 << 24;
+    
+    private int[] bucketHead = new int[0];
+    private int[] next = new int[0];
+    private int[] previous = new int[0];
+    private int[] bucket = new int[0]; // key of the item, NONE if absent
+    private int cursor;
+    private int size;
+    
+    @Override
+    public void reset(int capacity, long maxKey) {
+        if (maxKey < 0 || maxKey >= MAX_BUCKETS) {
+            throw new IllegalArgumentException("Bucket queue needs keys in [0, " + (MAX_BUCKETS - 1) + "], got max " + maxKey);
+        }
+        int buckets = (int) maxKey + 1;
+        if (bucketHead.length < buckets) {
+            bucketHead = new int[buckets];
+        }
+        Arrays.fill(bucketHead, 0, buckets, NONE);
+        if (bucket.length < capacity) {
+            next = new int[capacity];
+            previous = new int[capacity];
+            bucket = new int[capacity];
+        }
+        Arrays.fill(bucket, 0, capacity, NONE);
+        cursor = 0;
+        size = 0;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean contains(int item) {
+        return bucket[item] != NONE;
+    }
+    
+    @Override
+    public void insert(int item, long key) {
+        link(item, (int) key);
+        size++;
+    }
+    
+    @Override
+    public void decreaseKey(int item, long key) {
+        unlink(item);
+        link(item, (int) key);
+    }
+    
+    @Override
+    public int extractMin() {
+        while (bucketHead[cursor] == NONE) {
+            cursor++;
+        }
+        int item = bucketHead[cursor];
+        unlink(item);
+        bucket[item] = NONE;
+        size--;
+        return item;
+    }
+    
+    @Override
+    public String getName() {
+        return "bucket";
+    }
+    
+    private void link(int item, int key) {
+        int head = bucketHead[key];
+        next[item] = head;
+        previous[item] = NONE;
+        if (head != NONE) {
+            previous[head] = item;
+        }
+        bucketHead[key] = item;
+        bucket[item] = key;
+        if (key < cursor) {
+            cursor = key;
+        }
+    }
+    
+    private void unlink(int item) {
+        int key = bucket[item];
+        if (previous[item] != NONE) {
+            next[previous[item]] = next[item];
+        } else {
+            bucketHead[key] = next[item];
+        }
+        if (next[item] != NONE) {
+            previous[next[item]] = previous[item];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package main.java;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cooperative stop signal for long solves: cancelled explicitly through
+ * cancel() or implicitly once its deadline passes. Solvers poll it in their
+ * main loops and return the forest built so far, flagged incomplete.
+ */
+public final class CancellationToken {
+    /**
+     * Token that never fires.
+     */
+    public static final CancellationToken NONE = new CancellationToken(false, 0, null);
+    
+    private static final int CHECK_INTERVAL = 1024; // power of two
+    
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private final AtomicLong checksLeft; // null unless created by afterChecks
+    private volatile boolean cancelled;
+    
+    /**
+     * Token without a deadline, fired only by cancel().
+     */
+    public CancellationToken() {
+        this(false, 0, null);
+    }
+    
+    private CancellationToken(boolean hasDeadline, long deadlineNanos, AtomicLong checksLeft) {
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+        this.checksLeft = checksLeft;
+    }
+    
+    /**
+     * Token that fires timeoutMs milliseconds from now (or on cancel()).
+     */
+    public static CancellationToken withTimeout(long timeoutMs) {
+        if (timeoutMs < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative");
+        }
+        return new CancellationToken(true, System.nanoTime() + timeoutMs * 1_000_000L, null);
+    }
+    
+    /**
+     * Token that fires on the (checks + 1)-th call of isCancelled(), independent
+     * of machine speed; for reproducing a stop at a fixed point of a solve.
+     */
+    public static CancellationToken afterChecks(long checks) {
+        if (checks < 0) {
+            throw new IllegalArgumentException("Check count must not be negative");
+        }
+        return new CancellationToken(false, 0, new AtomicLong(checks));
+    }
+    
+    public void cancel() {
+        if (this == NONE) {
+            throw new IllegalStateException("CancellationToken.NONE cannot be cancelled");
+        }
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled || (hasDeadline && System.nanoTime() - deadlineNanos >= 0)
+            || (checksLeft != null && checksLeft.getAndDecrement() <= 0);
+    }
+    
+    /**
+     * Cheap check for tight loops: consults the token only on every
+     * CHECK_INTERVAL-th iteration.
+     */
+    public boolean shouldStop(int iteration) {
+        return (iteration & (CHECK_INTERVAL - 1)) == 0 && isCancelled();
+    }
+}
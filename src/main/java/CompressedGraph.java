@@ -0,0 +1,269 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Read-only adjacency in a few flat arrays, for graphs where memory rather
+ * than time limits the size. Each vertex's neighbors are sorted and stored
+ * as varint deltas in one byte array (the first relative to the vertex
+ * itself, zigzag-encoded), and edge weights are stored as offsets from the
+ * smallest weight, bit-packed at the minimum width that covers the range.
+ * Self-loops are dropped; parallel edges are kept.
+ *
+ * Neighbor lists are decoded sequentially through a Cursor, which is what
+ * Prim's relax loop needs. Vertex names stay in the graph's NodeDictionary.
+ */
+public class CompressedGraph {
+    private final NodeDictionary dictionary;
+    private final int vertices;
+    private final int edgeCount;
+    private final int[] byteOffsets;  // start of each vertex's neighbor bytes
+    private final int[] entryOffsets; // index of each vertex's first weight
+    private final byte[] neighbors;
+    private final long[] weights;
+    private final int weightBits;
+    private final long minWeight;
+    private final int maxWeight;
+    
+    private CompressedGraph(NodeDictionary dictionary, int vertices, int edgeCount, int[] byteOffsets,
+                            int[] entryOffsets, byte[] neighbors, long[] weights, int weightBits,
+                            long minWeight, int maxWeight) {
+        this.dictionary = dictionary;
+        this.vertices = vertices;
+        this.edgeCount = edgeCount;
+        this.byteOffsets = byteOffsets;
+        this.entryOffsets = entryOffsets;
+        this.neighbors = neighbors;
+        this.weights = weights;
+        this.weightBits = weightBits;
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+    }
+    
+    public static CompressedGraph of(Graph graph) {
+        int n = graph.getVertices();
+        int count = graph.getEdgeCount();
+        
+        // Weight range, and entries per vertex without self-loops
+        int[] entryOffsets = new int[n + 1];
+        int minWeight = Integer.MAX_VALUE;
+        int maxWeight = Integer.MIN_VALUE;
+        int edges = 0;
+        for (int e = 0; e < count; e++) {
+            int u = graph.getEdgeFrom(e);
+            int v = graph.getEdgeTo(e);
+            if (u == v) {
+                continue;
+            }
+            int w = graph.getEdge(e).getWeight();
+            minWeight = Math.min(minWeight, w);
+            maxWeight = Math.max(maxWeight, w);
+            entryOffsets[u + 1]++;
+            entryOffsets[v + 1]++;
+            edges++;
+        }
+        for (int v = 0; v < n; v++) {
+            entryOffsets[v + 1] += entryOffsets[v];
+        }
+        if (edges == 0) {
+            minWeight = 0;
+            maxWeight = 0;
+        }
+        long range = (long) maxWeight - minWeight;
+        int weightBits = 64 - Long.numberOfLeadingZeros(range);
+        
+        // Entries as (neighbor, weight offset) keys so that sorting orders by neighbor
+        long[] entries = new long[entryOffsets[n]];
+        int[] fill = Arrays.copyOf(entryOffsets, n);
+        for (int e = 0; e < count; e++) {
+            int u = graph.getEdgeFrom(e);
+            int v = graph.getEdgeTo(e);
+            if (u == v) {
+                continue;
+            }
+            long offset = (long) graph.getEdge(e).getWeight() - minWeight;
+            entries[fill[u]++] = ((long) v << 32) | offset;
+            entries[fill[v]++] = ((long) u << 32) | offset;
+        }
+        
+        // Encode vertex by vertex
+        int[] byteOffsets = new int[n + 1];
+        ByteSink sink = new ByteSink(entries.length + n);
+        long[] weights = new long[(int) (((long) entries.length * weightBits + 63) >>> 6)];
+        long bitPosition = 0;
+        for (int u = 0; u < n; u++) {
+            byteOffsets[u] = sink.size;
+            Arrays.sort(entries, entryOffsets[u], entryOffsets[u + 1]);
+            int previous = u;
+            boolean first = true;
+            for (int i = entryOffsets[u]; i < entryOffsets[u + 1]; i++) {
+                int neighbor = (int) (entries[i] >>> 32);
+                if (first) {
+                    int delta = neighbor - previous;
+                    sink.writeVarint((delta << 1) ^ (delta >> 31)); // zigzag
+                    first = false;
+                } else {
+                    sink.writeVarint(neighbor - previous);
+                }
+                previous = neighbor;
+                if (weightBits > 0) {
+                    writeBits(weights, bitPosition, weightBits, entries[i] & 0xFFFFFFFFL);
+                    bitPosition += weightBits;
+                }
+            }
+        }
+        byteOffsets[n] = sink.size;
+        
+        return new CompressedGraph(graph.getDictionary(), n, edges, byteOffsets, entryOffsets,
+            Arrays.copyOf(sink.bytes, sink.size), weights, weightBits, minWeight, maxWeight);
+    }
+    
+    public int getVertices() {
+        return vertices;
+    }
+    
+    /**
+     * Edges stored, i.e. the input edges without self-loops.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+    
+    public int getDegree(int v) {
+        return entryOffsets[v + 1] - entryOffsets[v];
+    }
+    
+    public int getWeightBits() {
+        return weightBits;
+    }
+    
+    public int getMaxWeight() {
+        return maxWeight;
+    }
+    
+    public String getNodeName(int v) {
+        return dictionary.getName(v);
+    }
+    
+    /**
+     * Bytes held by the adjacency arrays (array headers included, names excluded).
+     */
+    public long getSizeInBytes() {
+        return arrayBytes(byteOffsets.length, 4) + arrayBytes(entryOffsets.length, 4)
+            + arrayBytes(neighbors.length, 1) + arrayBytes(weights.length, 8);
+    }
+    
+    public double getBytesPerEdge() {
+        return edgeCount == 0 ? 0 : (double) getSizeInBytes() / edgeCount;
+    }
+    
+    /**
+     * A cursor for decoding neighbor lists; one per thread.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+    
+    /**
+     * Sequential decoder over one vertex's neighbors in increasing order:
+     * reset(v), then next() until it returns false, reading neighbor() and
+     * weight() after each step.
+     */
+    public class Cursor {
+        private int position;
+        private int end;
+        private long bitPosition;
+        private int neighbor;
+        private int weight;
+        private boolean first;
+        
+        public void reset(int v) {
+            position = byteOffsets[v];
+            end = byteOffsets[v + 1];
+            bitPosition = (long) entryOffsets[v] * weightBits;
+            neighbor = v;
+            first = true;
+        }
+        
+        public boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = neighbors[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (first) {
+                neighbor += (value >>> 1) ^ -(value & 1);
+                first = false;
+            } else {
+                neighbor += value;
+            }
+            if (weightBits == 0) {
+                weight = (int) minWeight;
+            } else {
+                weight = (int) (minWeight + readBits(weights, bitPosition, weightBits));
+                bitPosition += weightBits;
+            }
+            return true;
+        }
+        
+        public int neighbor() {
+            return neighbor;
+        }
+        
+        public int weight() {
+            return weight;
+        }
+    }
+    
+    private static void writeBits(long[] words, long bitPosition, int bits, long value) {
+        int word = (int) (bitPosition >>> 6);
+        int offset = (int) (bitPosition & 63);
+        words[word] |= value << offset;
+        if (offset + bits > 64) {
+            words[word + 1] |= value >>> (64 - offset);
+        }
+    }
+    
+    private static long readBits(long[] words, long bitPosition, int bits) {
+        int word = (int) (bitPosition >>> 6);
+        int offset = (int) (bitPosition & 63);
+        long value = words[word] >>> offset;
+        if (offset + bits > 64) {
+            value |= words[word + 1] << (64 - offset);
+        }
+        return bits == 64 ? value : value & ((1L << bits) - 1);
+    }
+    
+    private static long arrayBytes(int length, int elementSize) {
+        return (16 + (long) length * elementSize + 7) & ~7L;
+    }
+    
+    /**
+     * Growable byte buffer for the varint encoder.
+     */
+    private static class ByteSink {
+        byte[] bytes;
+        int size;
+        
+        ByteSink(int capacity) {
+            bytes = new byte[Math.max(16, capacity)];
+        }
+        
+        void writeVarint(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + 5, bytes.length + (bytes.length >> 1)));
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package main.java;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Memory and speed of the compressed adjacency. Bytes per edge are reported
+ * for three representations of the same graph: the per-edge object lists the
+ * default Prim builds (measured as the bytes that Prim allocates before its
+ * first poll, using a pre-cancelled token), the int CSR of IndexedGraph
+ * (bytes allocated by IndexedGraph.of plus building its adjacency), and
+ * CompressedGraph (exact array sizes). Prim on the compressed graph is timed
+ * against the workspace Prim on the CSR arrays.
+ */
+public class CompressedGraphBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int AVERAGE_DEGREE = 8;
+    private static final int MEASURED_RUNS = 3;
+    
+    public static void main(String[] args) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            System.err.println("Per-thread allocation counters are not available on this JVM");
+            return;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        
+        System.out.println("=".repeat(112));
+        System.out.println("Compressed Adjacency Benchmark (bytes per edge, best of " + MEASURED_RUNS + " runs in ms)");
+        System.out.println("=".repeat(112));
+        System.out.printf("%-16s %9s %9s %5s %10s %10s %10s %11s %11s %11s\n", "Graph", "V", "E", "Bits",
+            "Objects", "CSR", "Compressed", "Compress", "Prim CSR", "Prim comp.");
+        System.out.println("-".repeat(112));
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm prim = new PrimAlgorithm();
+        CancellationToken cancelled = new CancellationToken();
+        cancelled.cancel();
+        
+        for (int vertices : SIZES) {
+            for (int maxWeight : new int[]{100, 1_000_000}) {
+                GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec("uniform_w" + maxWeight,
+                    vertices, vertices * AVERAGE_DEGREE / 2, maxWeight,
+                    GraphGenerator.GraphFamily.UNIFORM_RANDOM, GraphGenerator.WeightDistribution.UNIFORM);
+                Graph graph = generator.generateGraph(spec);
+                double edges = graph.getEdgeCount();
+                
+                long objects = allocated(threads, () -> prim.findMST(graph, cancelled));
+                long csr = allocated(threads, () -> IndexedGraph.of(graph).getAdjacency());
+                CompressedGraph compressed = CompressedGraph.of(graph);
+                
+                long expectedCost = prim.findMST(graph, workspace).getTotalCost();
+                double compressMs = bestTime(() -> CompressedGraph.of(graph), null);
+                double csrPrimMs = bestTime(() -> prim.findMST(graph, workspace), expectedCost);
+                double compressedPrimMs = bestTime(() -> prim.findMST(compressed), expectedCost);
+                
+                System.out.printf("%-16s %9d %9d %5d %10.1f %10.1f %10.1f %11.2f %11.2f %11.2f\n",
+                    spec.getName(), graph.getVertices(), graph.getEdgeCount(), compressed.getWeightBits(),
+                    objects / edges, csr / edges, compressed.getBytesPerEdge(),
+                    compressMs, csrPrimMs, compressedPrimMs);
+            }
+        }
+        
+        System.out.println("=".repeat(112));
+    }
+    
+    private static long allocated(com.sun.management.ThreadMXBean threads, Runnable task) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+    
+    private static double bestTime(Supplier<Object> task, Long expectedCost) {
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            Object result = task.get();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+            if (expectedCost != null && ((MSTResult) result).getTotalCost() != expectedCost) {
+                throw new IllegalStateException("MST cost mismatch");
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,111 @@
+package main.java;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free union-find over vertex indices. Parent pointers live in an
+ * AtomicIntegerArray; roots are linked with a single CAS, always from the
+ * lower-priority root to the higher-priority one, and finds compact paths by
+ * CAS-based path halving. A failed CAS only means another thread made
+ * progress, so operations retry without ever blocking.
+ *
+ * Priorities are either the element index or a seeded random permutation
+ * (which keeps expected tree depth logarithmic for adversarial union orders).
+ */
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final int[] priority;
+    
+    /**
+     * Index-based priority: the root with the larger index wins.
+     */
+    public ConcurrentUnionFind(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+        priority = null;
+    }
+    
+    /**
+     * Randomized priority drawn from a permutation seeded with seed.
+     */
+    public ConcurrentUnionFind(int size, long seed) {
+        parent = new AtomicIntegerArray(size);
+        priority = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+            priority[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = priority[i];
+            priority[i] = priority[j];
+            priority[j] = tmp;
+        }
+    }
+    
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                parent.compareAndSet(x, p, grandparent); // path halving
+            }
+            x = grandparent;
+        }
+    }
+    
+    /**
+     * @return true if this call merged two different sets; exactly one of
+     * several concurrent unions of the same pair of sets returns true
+     */
+    public boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            if (higherPriority(rootA, rootB)) {
+                int tmp = rootA;
+                rootA = rootB;
+                rootB = tmp;
+            }
+            // Link the lower-priority root; fails if rootA stopped being a root
+            if (parent.compareAndSet(rootA, rootA, rootB)) {
+                return true;
+            }
+        }
+    }
+    
+    public boolean isConnected(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            // rootA unchanged means both roots were live at the same moment
+            if (parent.get(rootA) == rootA) {
+                return false;
+            }
+        }
+    }
+    
+    public int size() {
+        return parent.length();
+    }
+    
+    private boolean higherPriority(int a, int b) {
+        if (priority == null) {
+            return a > b;
+        }
+        return priority[a] > priority[b];
+    }
+}
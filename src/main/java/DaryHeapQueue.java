@@ -0,0 +1,121 @@
+package main.java;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary min-heap. Arity 2 is the classic binary heap; larger arities
+ * make the tree shallower (cheaper decrease-key) at the cost of comparing more
+ * children per level in extractMin.
+ */
+public class DaryHeapQueue implements IndexedPriorityQueue {
+    private final int arity;
+    private int[] heap = new int[0];
+    private int[] position = new int[0]; // index in heap, -1 if absent
+    private long[] keys = new long[0];
+    private int size;
+    
+    public DaryHeapQueue(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.arity = arity;
+    }
+    
+    @Override
+    public void reset(int capacity, long maxKey) {
+        if (position.length < capacity) {
+            heap = new int[capacity];
+            position = new int[capacity];
+            keys = new long[capacity];
+        }
+        Arrays.fill(position, 0, capacity, -1);
+        size = 0;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+    
+    @Override
+    public void insert(int item, long key) {
+        keys[item] = key;
+        siftUp(item, size++);
+    }
+    
+    @Override
+    public void decreaseKey(int item, long key) {
+        keys[item] = key;
+        siftUp(item, position[item]);
+    }
+    
+    @Override
+    public int extractMin() {
+        int min = heap[0];
+        position[min] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(last, 0);
+        }
+        return min;
+    }
+    
+    @Override
+    public String getName() {
+        return arity == 2 ? "binary" : arity + "-ary";
+    }
+    
+    private void siftUp(int item, int i) {
+        long key = keys[item];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentItem = heap[parent];
+            if (keys[parentItem] <= key) {
+                break;
+            }
+            heap[i] = parentItem;
+            position[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+    
+    private void siftDown(int item, int i) {
+        long key = keys[item];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            long bestKey = keys[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                long childKey = keys[heap[c]];
+                if (childKey < bestKey) {
+                    best = c;
+                    bestKey = childKey;
+                }
+            }
+            if (key <= bestKey) {
+                break;
+            }
+            heap[i] = heap[best];
+            position[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+}
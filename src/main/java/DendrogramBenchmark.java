@@ -0,0 +1,88 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Threshold queries answered by the single-linkage dendrogram against
+ * re-running Kruskal with a cutoff for each threshold. The re-run cost is
+ * measured on a handful of thresholds and extrapolated.
+ */
+public class DendrogramBenchmark {
+    private static final int VERTICES = 1_000_000;
+    private static final int AVERAGE_DEGREE = 8;
+    private static final int MAX_WEIGHT = 1_000_000;
+    private static final int THRESHOLDS = 10_000;
+    private static final int MEMBERSHIP_QUERIES = 5_000_000;
+    private static final int RERUNS = 5;
+    
+    public static void main(String[] args) {
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        Random random = new Random(42);
+        GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec("uniform_random", VERTICES,
+            VERTICES * AVERAGE_DEGREE / 2, MAX_WEIGHT, GraphGenerator.GraphFamily.UNIFORM_RANDOM,
+            GraphGenerator.WeightDistribution.UNIFORM);
+        Graph graph = generator.generateGraph(spec);
+        SolverWorkspace workspace = new SolverWorkspace();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        
+        System.out.println("=".repeat(80));
+        System.out.println("Single-Linkage Dendrogram Benchmark (V = " + graph.getVertices() + ", E = " + graph.getEdgeCount() + ")");
+        System.out.println("=".repeat(80));
+        
+        // Baseline: one Kruskal run with a cutoff per threshold
+        double rerunMs = Double.MAX_VALUE;
+        for (int i = 0; i < RERUNS; i++) {
+            int threshold = random.nextInt(MAX_WEIGHT);
+            long start = System.nanoTime();
+            MSTResult result = kruskal.findMST(graph, workspace);
+            int merged = 0;
+            for (Edge edge : result.getMstEdges()) {
+                if (edge.getWeight() <= threshold) {
+                    merged++;
+                }
+            }
+            rerunMs = Math.min(rerunMs, (System.nanoTime() - start) / 1_000_000.0);
+            if (merged < 0) {
+                throw new IllegalStateException();
+            }
+        }
+        
+        long start = System.nanoTime();
+        SingleLinkageDendrogram dendrogram = new SingleLinkageDendrogram(graph, kruskal.findMST(graph, workspace));
+        double buildMs = (System.nanoTime() - start) / 1_000_000.0;
+        
+        int[] thresholds = new int[THRESHOLDS];
+        for (int i = 0; i < THRESHOLDS; i++) {
+            thresholds[i] = random.nextInt(MAX_WEIGHT);
+        }
+        dendrogram.componentCounts(thresholds); // warm-up
+        start = System.nanoTime();
+        int[] counts = dendrogram.componentCounts(thresholds);
+        double batchMs = (System.nanoTime() - start) / 1_000_000.0;
+        
+        int[] vertices = new int[MEMBERSHIP_QUERIES];
+        int[] membershipThresholds = new int[MEMBERSHIP_QUERIES];
+        for (int i = 0; i < MEMBERSHIP_QUERIES; i++) {
+            vertices[i] = random.nextInt(graph.getVertices());
+            membershipThresholds[i] = random.nextInt(MAX_WEIGHT);
+        }
+        start = System.nanoTime();
+        dendrogram.clustersOf(vertices, membershipThresholds);
+        double membershipMs = (System.nanoTime() - start) / 1_000_000.0;
+        
+        start = System.nanoTime();
+        int[] clusters = dendrogram.cutToK(1000);
+        double cutMs = (System.nanoTime() - start) / 1_000_000.0;
+        
+        System.out.printf("%-44s %12.2f ms\n", "Kruskal re-run with cutoff (per threshold)", rerunMs);
+        System.out.printf("%-44s %12.2f ms\n", "Dendrogram build (Kruskal + tree)", buildMs);
+        System.out.printf("%-44s %12.2f ms  (%d thresholds, %d to %d clusters)\n", "Component counts", batchMs,
+            THRESHOLDS, Arrays.stream(counts).min().getAsInt(), Arrays.stream(counts).max().getAsInt());
+        System.out.printf("%-44s %12.2f ms  (%d queries)\n", "Cluster membership", membershipMs, MEMBERSHIP_QUERIES);
+        System.out.printf("%-44s %12.2f ms  (%d clusters)\n", "Cut to k clusters", cutMs, clusters.length);
+        System.out.println("-".repeat(80));
+        System.out.printf("%d thresholds by re-running Kruskal: ~%.0f s; with the dendrogram: %.2f s\n",
+            THRESHOLDS, rerunMs * THRESHOLDS / 1000, (buildMs + batchMs) / 1000);
+        System.out.println("=".repeat(80));
+    }
+}
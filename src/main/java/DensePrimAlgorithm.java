@@ -0,0 +1,123 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * O(V²) Prim over an adjacency matrix, for dense and near-complete graphs
+ * where a heap only adds overhead. Each step is a min-scan over the key
+ * array and a relax over one matrix row; both are delegated to a
+ * DensePrimKernel so that a SIMD implementation can be swapped in.
+ *
+ * By default the Vector API kernel is used when the JVM provides it (JDK 17+
+ * with --add-modules jdk.incubator.vector, loaded from the multi-release
+ * jar) and the scalar kernel otherwise.
+ */
+public class DensePrimAlgorithm {
+    private static final String VECTOR_KERNEL = "main.java.VectorDensePrimKernel";
+    private static final int MAX_VERTICES = 46_340; // V² must fit in an int array
+    
+    private final DensePrimKernel kernel;
+    private int operationsCount;
+    
+    public DensePrimAlgorithm() {
+        this(defaultKernel());
+    }
+    
+    public DensePrimAlgorithm(DensePrimKernel kernel) {
+        this.kernel = kernel;
+    }
+    
+    public DensePrimKernel getKernel() {
+        return kernel;
+    }
+    
+    /**
+     * The vector kernel if it can be loaded and used on this JVM, else the scalar one.
+     */
+    public static DensePrimKernel defaultKernel() {
+        try {
+            DensePrimKernel vector = (DensePrimKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            // The class may load while the incubator module is missing; use it once to be sure
+            vector.argMin(new int[]{Integer.MAX_VALUE}, 1);
+            return vector;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarDensePrimKernel();
+        }
+    }
+    
+    public MSTResult findMST(Graph graph) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        IndexedGraph g = IndexedGraph.of(graph);
+        int n = g.getVertices();
+        if (n > MAX_VERTICES) {
+            throw new IllegalArgumentException("Too many vertices for an adjacency matrix: " + n);
+        }
+        PhaseTimer timer = new PhaseTimer(n, g.getEdgeCount());
+        
+        // Adjacency matrix of the lightest edge per pair; MAX_VALUE means no edge
+        timer.start(MSTPhase.BUILD);
+        int[] weights = new int[n * n];
+        Arrays.fill(weights, Integer.MAX_VALUE);
+        for (int e = 0; e < g.getEdgeCount(); e++) {
+            int u = g.getFrom(e);
+            int v = g.getTo(e);
+            int w = g.getWeight(e);
+            if (w == Integer.MAX_VALUE || w == Integer.MIN_VALUE) {
+                throw new IllegalArgumentException("Edge weights must lie strictly between Integer.MIN_VALUE and Integer.MAX_VALUE");
+            }
+            if (u != v && w < weights[u * n + v]) {
+                weights[u * n + v] = w;
+                weights[v * n + u] = w;
+            }
+        }
+        operationsCount += n * n + g.getEdgeCount(); // building matrix
+        
+        // Prim's algorithm; picking an unreached vertex starts the next component
+        timer.start(MSTPhase.HEAP);
+        int[] key = new int[n];
+        int[] parent = new int[n];
+        int[] treeWeight = new int[n];
+        Arrays.fill(key, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        while (true) {
+            int u = kernel.argMin(key, n);
+            operationsCount += n; // scanning keys
+            if (u < 0) {
+                break;
+            }
+            treeWeight[u] = key[u];
+            key[u] = Integer.MIN_VALUE; // in tree
+            kernel.relax(weights, u * n, key, parent, u, n);
+            operationsCount += n; // relaxing row
+        }
+        
+        // Recover the Edge objects: the lightest edge between each vertex and its parent
+        timer.start(MSTPhase.BUILD);
+        List<Edge> mstEdges = new ArrayList<>();
+        long totalCost = 0;
+        int[] offsets = g.getOffsets();
+        int[] adjacency = g.getAdjacency();
+        for (int v = 0; v < n; v++) {
+            if (parent[v] < 0) {
+                continue;
+            }
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int e = adjacency[i];
+                if (g.other(e, v) == parent[v] && g.getWeight(e) == treeWeight[v]) {
+                    mstEdges.add(g.getEdge(e));
+                    totalCost += treeWeight[v];
+                    operationsCount++; // adding edge to MST
+                    break;
+                }
+            }
+        }
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs);
+    }
+}
@@ -0,0 +1,95 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Scalar against Vector API dense-Prim kernels on near-complete graphs, with
+ * heap-based Prim and Kruskal for reference. Key-scan time is the HEAP phase
+ * of DensePrimAlgorithm (matrix construction excluded).
+ *
+ * Run from the multi-release jar on JDK 17+ with
+ * --add-modules jdk.incubator.vector to include the vector kernel.
+ */
+public class DensePrimBenchmark {
+    private static final int WARMUP_RUNS = 10; // the vector kernel needs C2 before it pays off
+    private static final int MEASURED_RUNS = 5;
+    private static final int[] SIZES = {500, 1000, 2000, 3000};
+    private static final double DENSITY = 0.9;
+    
+    public static void main(String[] args) {
+        List<DensePrimAlgorithm> dense = new ArrayList<>();
+        dense.add(new DensePrimAlgorithm(new ScalarDensePrimKernel()));
+        DensePrimKernel defaultKernel = DensePrimAlgorithm.defaultKernel();
+        if (!(defaultKernel instanceof ScalarDensePrimKernel)) {
+            dense.add(new DensePrimAlgorithm(defaultKernel));
+        }
+        
+        System.out.println("=".repeat(100));
+        System.out.println("Dense Prim Kernel Benchmark (median of " + MEASURED_RUNS + " runs, ms)");
+        System.out.println("=".repeat(100));
+        System.out.println("Default kernel on this JVM: " + defaultKernel.getName());
+        System.out.println();
+        System.out.printf("%-8s %10s", "V", "E");
+        for (DensePrimAlgorithm prim : dense) {
+            System.out.printf(" %16s %12s", prim.getKernel().getName() + " total", "scan");
+        }
+        System.out.printf(" %12s %12s\n", "Heap Prim", "Kruskal");
+        System.out.println("-".repeat(100));
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm heapPrim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        for (int vertices : SIZES) {
+            // Complete graph with a random 10% of the edges dropped
+            Graph complete = generator.generateGraph(new GraphGenerator.TestGraphSpec("complete", vertices,
+                vertices * (vertices - 1) / 2, 1_000_000, GraphGenerator.GraphFamily.COMPLETE, GraphGenerator.WeightDistribution.UNIFORM));
+            Random random = new Random(vertices);
+            List<Edge> edges = new ArrayList<>();
+            for (int e = 0; e < complete.getEdgeCount(); e++) {
+                if (random.nextDouble() < DENSITY) {
+                    edges.add(complete.getEdge(e));
+                }
+            }
+            Graph graph = new Graph(complete.getNodeNames(), edges);
+            long expectedCost = kruskal.findMST(graph, workspace).getTotalCost();
+            System.out.printf("%-8d %10d", vertices, graph.getEdgeCount());
+            
+            for (DensePrimAlgorithm prim : dense) {
+                double[] times = new double[MEASURED_RUNS];
+                double[] scans = new double[MEASURED_RUNS];
+                for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+                    MSTResult result = prim.findMST(graph);
+                    if (result.getTotalCost() != expectedCost) {
+                        throw new IllegalStateException("Dense Prim cost mismatch");
+                    }
+                    if (run >= 0) {
+                        times[run] = result.getExecutionTimeMs();
+                        scans[run] = result.getPhaseTimeMs(MSTPhase.HEAP);
+                    }
+                }
+                System.out.printf(" %16.2f %12.2f", median(times), median(scans));
+            }
+            
+            double[] heapTimes = new double[MEASURED_RUNS];
+            double[] kruskalTimes = new double[MEASURED_RUNS];
+            for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+                double heapTime = heapPrim.findMST(graph, workspace).getExecutionTimeMs();
+                double kruskalTime = kruskal.findMST(graph, workspace).getExecutionTimeMs();
+                if (run >= 0) {
+                    heapTimes[run] = heapTime;
+                    kruskalTimes[run] = kruskalTime;
+                }
+            }
+            System.out.printf(" %12.2f %12.2f\n", median(heapTimes), median(kruskalTimes));
+        }
+        
+        System.out.println("=".repeat(100));
+    }
+    
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,26 @@
+package main.java;
+
+/**
+ * Inner loops of DensePrimAlgorithm. A vertex already in the tree has key
+ * Integer.MIN_VALUE, so relax never touches it and argMin skips it; a vertex
+ * not yet reached has key Integer.MAX_VALUE.
+ */
+public interface DensePrimKernel {
+    
+    /**
+     * Index of the smallest key among vertices not in the tree (lowest index
+     * on ties), or -1 if every vertex is in the tree.
+     */
+    int argMin(int[] key, int n);
+    
+    /**
+     * For every v in [0, n): if weights[offset + v] < key[v], sets key[v] to
+     * that weight and parent[v] to u.
+     */
+    void relax(int[] weights, int offset, int[] key, int[] parent, int u, int n);
+    
+    /**
+     * Short name used in benchmark reports.
+     */
+    String getName();
+}
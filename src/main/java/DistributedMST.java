@@ -0,0 +1,346 @@
+package main.java;
+
+import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+/**
+ * Coordinator for MST across worker processes (see MSTWorker). The edge list
+ * is streamed into partitions, and each partition is sent to a worker as soon
+ * as it is full, so the coordinator holds one partition plus the returned
+ * forests rather than the whole graph. Each worker reduces its partitions to
+ * a minimum spanning forest. By the cycle property the discarded edges cannot be in
+ * the MST, so only forests of at most V - 1 edges travel back. The forests
+ * are then merged in rounds: in each round, pairs of forests are sent to
+ * workers in parallel and each pair is reduced to a single forest, until one
+ * forest is left.
+ *
+ * Requests and replies are GraphData and MSTResult in the MSTProtocol
+ * framing. While partitions are being streamed, requests are written by the
+ * coordinator thread and replies read by one thread per connection, in order.
+ */
+public class DistributedMST {
+    private static final int PARTITION_EDGES = 1 << 20; // edges per partition when streaming from a file
+    
+    private final List<InetSocketAddress> workers;
+    private final int partitions;
+    private int rounds;
+    private long edgesShipped;
+    private int operationsCount;
+    
+    public DistributedMST(List<InetSocketAddress> workers) {
+        this(workers, workers.size());
+    }
+    
+    public DistributedMST(List<InetSocketAddress> workers, int partitions) {
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Partition count must be at least 1");
+        }
+        this.workers = new ArrayList<>(workers);
+        this.partitions = partitions;
+    }
+    
+    /**
+     * Usage: java main.java.DistributedMST <input_file> <host:port> [<host:port> ...]
+     *
+     * The input is read with a streaming JsonReader and each graph's edges go
+     * straight into partitions, never into a Graph. Partitions hold
+     * PARTITION_EDGES edges, since the edge count is not known in advance.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java DistributedMST <input_file> <host:port> [<host:port> ...]");
+            System.exit(1);
+        }
+        List<InetSocketAddress> workers = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            String[] hostPort = args[i].split(":");
+            workers.add(new InetSocketAddress(hostPort[0], Integer.parseInt(hostPort[1])));
+        }
+        
+        DistributedMST distributed = new DistributedMST(workers);
+        try (JsonReader reader = new JsonReader(new BufferedReader(new FileReader(args[0])))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("graphs")) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    String id = "?";
+                    MSTResult result = null;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if (name.equals("id")) {
+                            id = reader.nextString();
+                        } else if (name.equals("edges")) {
+                            reader.beginArray();
+                            result = distributed.findMST(edgeStream(reader), PARTITION_EDGES);
+                            reader.endArray();
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    if (result != null) {
+                        System.out.printf("Graph %s: cost %d, %d edges, %d rounds, %.2f ms\n", id, result.getTotalCost(),
+                            result.getMstEdges().size(), distributed.getRounds(), result.getExecutionTimeMs());
+                    }
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+        }
+    }
+    
+    /**
+     * Splits the graph's edges into the configured number of partitions of
+     * equal size. The graph is already in memory here; callers that cannot
+     * afford that should pass an edge iterator to findMST(Iterator, int).
+     */
+    public MSTResult findMST(Graph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int chunk = Math.max(1, (edgeCount + partitions - 1) / partitions);
+        return findMST(IntStream.range(0, edgeCount).mapToObj(graph::getEdge).iterator(), chunk);
+    }
+    
+    /**
+     * MST of the graph made of the given edges. Edges are pulled one at a
+     * time, and every partitionSize of them are sent to the next worker
+     * before more are read, so at most one partition is held here at a time.
+     * Isolated vertices do not appear in any edge and are not represented.
+     */
+    public MSTResult findMST(Iterator<Edge> edges, int partitionSize) {
+        if (partitionSize < 1) {
+            throw new IllegalArgumentException("Partition size must be at least 1");
+        }
+        rounds = 0;
+        edgesShipped = 0;
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        List<Connection> connections = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(workers.size());
+        try {
+            for (InetSocketAddress address : workers) {
+                connections.add(new Connection(address));
+            }
+            
+            // Round 0: local forests of contiguous edge partitions, shipped as they fill
+            rounds++;
+            List<Future<MSTResult>> pending = new ArrayList<>();
+            List<Edge> partition = new ArrayList<>();
+            while (edges.hasNext()) {
+                partition.add(edges.next());
+                if (partition.size() == partitionSize) {
+                    pending.add(ship(connections.get(pending.size() % connections.size()), pending.size(), partition));
+                    partition = new ArrayList<>();
+                }
+            }
+            if (!partition.isEmpty()) {
+                pending.add(ship(connections.get(pending.size() % connections.size()), pending.size(), partition));
+            }
+            List<MSTResult> forests = new ArrayList<>();
+            for (Future<MSTResult> reply : pending) {
+                forests.add(await(reply));
+            }
+            
+            // Merge rounds: pairs of forests reduced to one
+            while (forests.size() > 1) {
+                List<List<Edge>> pairs = new ArrayList<>();
+                MSTResult odd = forests.size() % 2 == 1 ? forests.get(forests.size() - 1) : null;
+                for (int i = 0; i + 1 < forests.size(); i += 2) {
+                    List<Edge> pair = new ArrayList<>(forests.get(i).getMstEdges());
+                    pair.addAll(forests.get(i + 1).getMstEdges());
+                    pairs.add(pair);
+                }
+                forests = runRound(pool, connections, pairs);
+                if (odd != null) {
+                    forests.add(odd);
+                }
+            }
+            
+            List<Edge> mstEdges = forests.isEmpty() ? new ArrayList<>() : forests.get(0).getMstEdges();
+            long totalCost = 0;
+            for (Edge edge : mstEdges) {
+                totalCost += edge.getWeight();
+            }
+            
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            
+            return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot reach MST worker", e);
+        } finally {
+            pool.shutdown();
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+    
+    /**
+     * Number of request rounds in the last findMST, including the partition round.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+    
+    /**
+     * Edges sent to workers in the last findMST.
+     */
+    public long getEdgesShipped() {
+        return edgesShipped;
+    }
+    
+    /**
+     * Writes a partition to the worker from the calling thread and queues
+     * the read of its reply on the connection's reply thread; the partition
+     * can be dropped as soon as this returns.
+     */
+    private Future<MSTResult> ship(Connection connection, int id, List<Edge> partition) throws IOException {
+        connection.send(MSTProtocol.toGraphData(id, partition));
+        edgesShipped += partition.size();
+        return connection.replies.submit(connection::receive);
+    }
+    
+    private MSTResult await(Future<MSTResult> reply) {
+        try {
+            MSTResult result = reply.get();
+            operationsCount += result.getOperationsCount(); // work done by the workers
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Distributed MST was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MST worker request failed", e.getCause());
+        }
+    }
+    
+    /**
+     * Reads a JSON array of edges lazily from reader, which must be
+     * positioned inside the array; stops at its end.
+     */
+    private static Iterator<Edge> edgeStream(JsonReader reader) {
+        GraphData.EdgeDataAdapter adapter = new GraphData.EdgeDataAdapter();
+        return new Iterator<Edge>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return reader.hasNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            
+            @Override
+            public Edge next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    GraphData.EdgeData data = adapter.read(reader);
+                    return new Edge(data.getFrom(), data.getTo(), data.getWeight());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+    
+    /**
+     * Sends batch i to worker i mod W, each worker on its own thread, and
+     * returns the forests in batch order.
+     */
+    private List<MSTResult> runRound(ExecutorService pool, List<Connection> connections,
+                                     List<List<Edge>> batches) {
+        rounds++;
+        MSTResult[] results = new MSTResult[batches.size()];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int w = 0; w < connections.size(); w++) {
+            Connection connection = connections.get(w);
+            int first = w;
+            tasks.add(() -> {
+                for (int i = first; i < batches.size(); i += connections.size()) {
+                    results[i] = connection.solve(MSTProtocol.toGraphData(i, batches.get(i)));
+                }
+                return null;
+            });
+        }
+        for (List<Edge> batch : batches) {
+            edgesShipped += batch.size();
+        }
+        
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Distributed MST was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MST worker request failed", e.getCause());
+        }
+        for (MSTResult result : results) {
+            operationsCount += result.getOperationsCount(); // work done by the workers
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+    
+    private static class Connection {
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final ExecutorService replies = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mst-replies");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        Connection(InetSocketAddress address) throws IOException {
+            socket = new Socket();
+            socket.connect(address);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+        
+        MSTResult solve(GraphData graph) throws IOException {
+            send(graph);
+            return receive();
+        }
+        
+        void send(GraphData graph) throws IOException {
+            MSTProtocol.write(out, MSTProtocol.msfRequest(graph));
+        }
+        
+        MSTResult receive() throws IOException {
+            JsonObject reply = MSTProtocol.read(in);
+            if (reply == null) {
+                throw new IOException("Worker closed the connection");
+            }
+            if (MSTProtocol.ERROR.equals(reply.get("type").getAsString())) {
+                throw new IOException("Worker error: " + reply.get("message").getAsString());
+            }
+            return MSTProtocol.resultOf(reply);
+        }
+        
+        void close() {
+            replies.shutdownNow();
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // nothing left to release
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package main.java;
+
+import java.util.Arrays;
+
+/**
+ * MSTResult counterpart for DoubleWeightGraph. The total cost is a
+ * compensated sum of the tree weights in ascending order, so solvers that
+ * pick the same weights report exactly the same cost.
+ */
+public class DoubleMSTResult {
+    private final int[] mstEdges;
+    private final double totalCost;
+    private final int operationsCount;
+    private final double executionTimeMs;
+    private final double[] phaseTimesMs;
+    private final boolean complete;
+    private final int edgesScanned;
+    
+    public DoubleMSTResult(int[] mstEdges, double totalCost, int operationsCount, double executionTimeMs,
+                           double[] phaseTimesMs, boolean complete, int edgesScanned) {
+        this.mstEdges = mstEdges;
+        this.totalCost = totalCost;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+        this.phaseTimesMs = phaseTimesMs;
+        this.complete = complete;
+        this.edgesScanned = edgesScanned;
+    }
+    
+    /**
+     * Neumaier sum of the weights of the given edges, smallest first.
+     */
+    static double totalCost(DoubleWeightGraph graph, int[] edges) {
+        double[] weights = new double[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            weights[i] = graph.getWeight(edges[i]);
+        }
+        Arrays.sort(weights);
+        double sum = 0;
+        double compensation = 0;
+        for (double weight : weights) {
+            double next = sum + weight;
+            if (Math.abs(sum) >= Math.abs(weight)) {
+                compensation += (sum - next) + weight;
+            } else {
+                compensation += (weight - next) + sum;
+            }
+            sum = next;
+        }
+        return sum + compensation;
+    }
+    
+    /**
+     * Edge indices of the tree (forest), in the order the solver chose them.
+     */
+    public int[] getMstEdges() {
+        return mstEdges;
+    }
+    
+    public double getTotalCost() {
+        return totalCost;
+    }
+    
+    public int getOperationsCount() {
+        return operationsCount;
+    }
+    
+    public double getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+    
+    public boolean hasPhaseTimes() {
+        return phaseTimesMs != null;
+    }
+    
+    public double getPhaseTimeMs(MSTPhase phase) {
+        return phaseTimesMs == null ? 0 : phaseTimesMs[phase.ordinal()];
+    }
+    
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    public int getEdgesScanned() {
+        return edgesScanned;
+    }
+}
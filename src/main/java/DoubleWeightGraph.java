@@ -0,0 +1,88 @@
+package main.java;
+
+/**
+ * Undirected graph with double edge weights, stored like LongWeightGraph as
+ * parallel primitive arrays. Solvers order weights through orderedBits, so
+ * heaps and sorts run on long keys exactly as on the integer paths.
+ */
+public class DoubleWeightGraph {
+    private final NodeDictionary dictionary;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final double[] weights;
+    
+    /**
+     * The arrays are used as given, not copied.
+     * @throws IllegalArgumentException if a weight is NaN
+     */
+    public DoubleWeightGraph(NodeDictionary dictionary, int[] edgeFrom, int[] edgeTo, double[] weights) {
+        if (edgeFrom.length != weights.length || edgeTo.length != weights.length) {
+            throw new IllegalArgumentException("Endpoint and weight arrays must have one entry per edge");
+        }
+        for (int e = 0; e < weights.length; e++) {
+            LongWeightGraph.checkVertex(dictionary, edgeFrom[e]);
+            LongWeightGraph.checkVertex(dictionary, edgeTo[e]);
+            if (Double.isNaN(weights[e])) {
+                throw new IllegalArgumentException("Edge weight is NaN: " + dictionary.getName(edgeFrom[e])
+                    + " - " + dictionary.getName(edgeTo[e]));
+            }
+        }
+        this.dictionary = dictionary;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.weights = weights;
+    }
+    
+    /**
+     * Converts an int-weighted graph; vertex ids and edge indices are kept.
+     */
+    public static DoubleWeightGraph of(Graph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        double[] weights = new double[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            weights[e] = graph.getEdge(e).getWeight();
+        }
+        return new DoubleWeightGraph(graph.getDictionary(), from, to, weights);
+    }
+    
+    /**
+     * A long that compares like the weight: the IEEE bits with the magnitude
+     * bits flipped for negative values, so -0.0 sorts just below 0.0.
+     */
+    public static long orderedBits(double weight) {
+        long bits = Double.doubleToLongBits(weight);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+    
+    public int getVertices() {
+        return dictionary.size();
+    }
+    
+    public int getEdgeCount() {
+        return weights.length;
+    }
+    
+    public int getEdgeFrom(int index) {
+        return edgeFrom[index];
+    }
+    
+    public int getEdgeTo(int index) {
+        return edgeTo[index];
+    }
+    
+    public double getWeight(int index) {
+        return weights[index];
+    }
+    
+    public String getNodeName(int index) {
+        return dictionary.getName(index);
+    }
+    
+    public NodeDictionary getDictionary() {
+        return dictionary;
+    }
+}
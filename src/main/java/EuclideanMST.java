@@ -0,0 +1,319 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Euclidean MST of a PointSet without building the complete graph.
+ *
+ * Uses Borůvka rounds over a k-d tree: in each round every point knows its
+ * nearest neighbour outside its own component, and each component keeps its
+ * lightest such edge. Subtrees whose points all belong to the querying
+ * component, or whose bounding box is farther than the best candidate so far,
+ * are pruned. Since components only grow, a point's nearest foreign
+ * neighbour stays valid until that neighbour joins its component, so only
+ * those points are searched again. There are O(log n) rounds and memory
+ * stays O(n).
+ *
+ * Edge weights in the returned MSTResult are distances multiplied by the
+ * configured scale and rounded to int; the tree itself is chosen on exact
+ * distances, and getTotalLength() reports the unrounded total.
+ */
+public class EuclideanMST {
+    private static final int LEAF_SIZE = 8;
+    
+    private final double scale;
+    private int operationsCount;
+    private double totalLength;
+    
+    // k-d tree, one slot per node
+    private int[] order;
+    private int[] nodeStart;
+    private int[] nodeEnd;
+    private int[] leftChild;
+    private int[] rightChild;
+    private double[] boxMin;
+    private double[] boxMax;
+    private int nodeCount;
+    
+    public EuclideanMST() {
+        this(1.0);
+    }
+    
+    public EuclideanMST(double scale) {
+        if (!(scale > 0)) {
+            throw new IllegalArgumentException("Scale must be positive");
+        }
+        this.scale = scale;
+    }
+    
+    public MSTResult findMST(PointSet points) {
+        operationsCount = 0;
+        totalLength = 0;
+        long startTime = System.nanoTime();
+        
+        int n = points.size();
+        List<Edge> mstEdges = new ArrayList<>();
+        long totalCost = 0;
+        
+        if (n > 1) {
+            buildTree(points);
+            
+            UnionFind uf = new UnionFind(n);
+            int[] component = new int[n];
+            int[] nodeComponent = new int[nodeCount];
+            double[] nearestDistance = new double[n];
+            int[] nearest = new int[n];
+            double[] bestDistance = new double[n];
+            int[] bestFrom = new int[n];
+            int[] bestTo = new int[n];
+            Arrays.fill(nearest, -1);
+            
+            while (uf.getComponents() > 1) {
+                for (int i = 0; i < n; i++) {
+                    component[i] = uf.find(i);
+                    bestDistance[i] = Double.POSITIVE_INFINITY;
+                    bestFrom[i] = -1;
+                }
+                labelNodes(0, component, nodeComponent);
+                
+                // Tree order keeps consecutive queries spatially close
+                for (int k = 0; k < n; k++) {
+                    int i = order[k];
+                    int c = component[i];
+                    
+                    // Refresh the nearest foreign neighbour only if it was absorbed
+                    if (nearest[i] < 0 || component[nearest[i]] == c) {
+                        // Anything farther than the component's best is useless this
+                        // round; a neighbour found within that bound is exact
+                        nearestDistance[i] = bestDistance[c];
+                        nearest[i] = -1;
+                        search(0, i, points, component, nodeComponent, nearestDistance, nearest);
+                    }
+                    
+                    // Keep the lightest candidate per component
+                    if (nearest[i] >= 0 && isLighter(nearestDistance[i], i, nearest[i], bestDistance[c], bestFrom[c], bestTo[c])) {
+                        bestDistance[c] = nearestDistance[i];
+                        bestFrom[c] = i;
+                        bestTo[c] = nearest[i];
+                    }
+                }
+                
+                int merged = 0;
+                for (int c = 0; c < n; c++) {
+                    if (bestFrom[c] < 0) {
+                        continue;
+                    }
+                    int a = bestFrom[c];
+                    int b = bestTo[c];
+                    if (uf.union(a, b)) {
+                        double length = Math.sqrt(bestDistance[c]);
+                        int weight = (int) Math.round(length * scale);
+                        mstEdges.add(new Edge(points.getName(a), points.getName(b), weight));
+                        totalCost += weight;
+                        totalLength += length;
+                        merged++;
+                        operationsCount++; // adding edge to MST
+                    }
+                }
+                if (merged == 0) {
+                    break; // cannot happen for finite coordinates; guards against NaN input
+                }
+            }
+        }
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+    }
+    
+    /**
+     * Sum of the exact (unscaled, unrounded) edge lengths of the last tree.
+     */
+    public double getTotalLength() {
+        return totalLength;
+    }
+    
+    private void buildTree(PointSet points) {
+        int n = points.size();
+        int dims = points.getDimensions();
+        int capacity = 2 * (n / (LEAF_SIZE / 2) + 1); // leaves hold at least LEAF_SIZE / 2 points
+        order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        nodeStart = new int[capacity];
+        nodeEnd = new int[capacity];
+        leftChild = new int[capacity];
+        rightChild = new int[capacity];
+        boxMin = new double[capacity * dims];
+        boxMax = new double[capacity * dims];
+        nodeCount = 0;
+        build(points, 0, n);
+    }
+    
+    private int build(PointSet points, int start, int end) {
+        int dims = points.getDimensions();
+        int node = nodeCount++;
+        nodeStart[node] = start;
+        nodeEnd[node] = end;
+        leftChild[node] = -1;
+        rightChild[node] = -1;
+        
+        // Bounding box
+        int widest = 0;
+        double widestSpread = -1;
+        for (int d = 0; d < dims; d++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                double value = points.getCoordinate(order[i], d);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            boxMin[node * dims + d] = min;
+            boxMax[node * dims + d] = max;
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widest = d;
+            }
+        }
+        operationsCount += end - start; // bounding box scan
+        
+        if (end - start > LEAF_SIZE) {
+            int mid = (start + end) >>> 1;
+            select(points, widest, start, end - 1, mid);
+            leftChild[node] = build(points, start, mid);
+            rightChild[node] = build(points, mid, end);
+        }
+        return node;
+    }
+    
+    /**
+     * Quickselect on order[lo..hi] so that order[k] holds the median along dimension d.
+     */
+    private void select(PointSet points, int d, int lo, int hi, int k) {
+        while (lo < hi) {
+            double pivot = points.getCoordinate(order[(lo + hi) >>> 1], d);
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (points.getCoordinate(order[i], d) < pivot) {
+                    i++;
+                }
+                while (points.getCoordinate(order[j], d) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Sets nodeComponent[node] to the component shared by all points under the
+     * node, or -1 if they span several components.
+     */
+    private int labelNodes(int node, int[] component, int[] nodeComponent) {
+        int label;
+        if (leftChild[node] < 0) {
+            label = component[order[nodeStart[node]]];
+            for (int i = nodeStart[node] + 1; i < nodeEnd[node]; i++) {
+                if (component[order[i]] != label) {
+                    label = -1;
+                    break;
+                }
+            }
+        } else {
+            int left = labelNodes(leftChild[node], component, nodeComponent);
+            int right = labelNodes(rightChild[node], component, nodeComponent);
+            label = left == right ? left : -1;
+        }
+        nodeComponent[node] = label;
+        return label;
+    }
+    
+    private void search(int node, int query, PointSet points, int[] component, int[] nodeComponent,
+                        double[] nearestDistance, int[] nearest) {
+        int c = component[query];
+        if (nodeComponent[node] == c) {
+            return; // every point here is already in the query's component
+        }
+        if (boxDistanceSquared(node, query, points) > nearestDistance[query]) {
+            return;
+        }
+        operationsCount++; // visiting k-d tree node
+        
+        if (leftChild[node] < 0) {
+            for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+                int other = order[i];
+                if (component[other] == c) {
+                    continue;
+                }
+                double distance = points.distanceSquared(query, other);
+                operationsCount++; // distance computation
+                if (isLighter(distance, query, other, nearestDistance[query], query, nearest[query])) {
+                    nearestDistance[query] = distance;
+                    nearest[query] = other;
+                }
+            }
+            return;
+        }
+        
+        // Visit the nearer child first so the farther one is more likely pruned
+        int near = leftChild[node];
+        int far = rightChild[node];
+        if (boxDistanceSquared(far, query, points) < boxDistanceSquared(near, query, points)) {
+            near = rightChild[node];
+            far = leftChild[node];
+        }
+        search(near, query, points, component, nodeComponent, nearestDistance, nearest);
+        search(far, query, points, component, nodeComponent, nearestDistance, nearest);
+    }
+    
+    private double boxDistanceSquared(int node, int query, PointSet points) {
+        int dims = points.getDimensions();
+        double sum = 0;
+        for (int d = 0; d < dims; d++) {
+            double value = points.getCoordinate(query, d);
+            double delta = 0;
+            if (value < boxMin[node * dims + d]) {
+                delta = boxMin[node * dims + d] - value;
+            } else if (value > boxMax[node * dims + d]) {
+                delta = value - boxMax[node * dims + d];
+            }
+            sum += delta * delta;
+        }
+        return sum;
+    }
+    
+    /**
+     * Strict total order on candidate edges (distance, then endpoint ids) so
+     * that components choosing in parallel never close a cycle on ties.
+     */
+    private static boolean isLighter(double distance, int a, int b, double bestDistance, int bestA, int bestB) {
+        if (distance != bestDistance) {
+            return distance < bestDistance;
+        }
+        if (bestA < 0 || bestB < 0) {
+            return true;
+        }
+        int lo = Math.min(a, b);
+        int hi = Math.max(a, b);
+        int bestLo = Math.min(bestA, bestB);
+        int bestHi = Math.max(bestA, bestB);
+        return lo != bestLo ? lo < bestLo : hi < bestHi;
+    }
+}
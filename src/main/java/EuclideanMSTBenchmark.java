@@ -0,0 +1,60 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Runs EuclideanMST on random point sets of growing size. For small sets the
+ * result is cross-checked against Kruskal on the materialized complete graph.
+ */
+public class EuclideanMSTBenchmark {
+    private static final int COMPLETE_GRAPH_LIMIT = 2000;
+    
+    public static void main(String[] args) {
+        System.out.println("=".repeat(70));
+        System.out.println("Euclidean MST Benchmark");
+        System.out.println("=".repeat(70));
+        System.out.printf("%-6s %10s | %12s %14s | %14s\n", "Dims", "Points", "k-d Borůvka", "Total length", "Complete graph");
+        System.out.println("-".repeat(70));
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        int[] sizes = {1000, 2000, 10000, 100000, 1000000};
+        for (int dims = 2; dims <= 3; dims++) {
+            for (int n : sizes) {
+                PointSet points = generator.generatePointSet(n, dims, 1000.0);
+                EuclideanMST euclidean = new EuclideanMST(1000.0);
+                MSTResult result = euclidean.findMST(points);
+                
+                String complete = "-";
+                if (n <= COMPLETE_GRAPH_LIMIT) {
+                    Graph graph = completeGraph(points, 1000.0);
+                    MSTResult kruskalResult = new KruskalAlgorithm().findMST(graph);
+                    complete = String.format("%.2fms", kruskalResult.getExecutionTimeMs());
+                    if (kruskalResult.getTotalCost() > result.getTotalCost()
+                            || result.getTotalCost() - kruskalResult.getTotalCost() > n) {
+                        System.err.println("Error: Euclidean MST cost differs from complete-graph Kruskal!");
+                    }
+                }
+                
+                System.out.printf("%-6d %10d | %10.2fms %14.2f | %14s\n",
+                    dims, n, result.getExecutionTimeMs(), euclidean.getTotalLength(), complete);
+            }
+        }
+        
+        System.out.println("=".repeat(70));
+    }
+    
+    private static Graph completeGraph(PointSet points, double scale) {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            nodes.add(points.getName(i));
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            for (int j = i + 1; j < points.size(); j++) {
+                int weight = (int) Math.round(Math.sqrt(points.distanceSquared(i, j)) * scale);
+                edges.add(new Edge(nodes.get(i), nodes.get(j), weight));
+            }
+        }
+        return new Graph(nodes, edges);
+    }
+}
@@ -2,20 +2,52 @@ package main.java;
 
 import java.util.*;
 
+/**
+ * Undirected weighted graph. Node names are interned once into a
+ * NodeDictionary and edge endpoints are resolved to int ids at construction,
+ * so solvers work on ids and names are only needed again for output.
+ */
 public class Graph {
     private final int vertices;
-    private final Map<String, Integer> nodeIndexMap;
-    private final List<String> nodeNames;
+    private final NodeDictionary dictionary;
     private final List<Edge> edges;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
     
     public Graph(List<String> nodes, List<Edge> edges) {
-        this.vertices = nodes.size();
-        this.nodeNames = new ArrayList<>(nodes);
-        this.nodeIndexMap = new HashMap<>();
-        for (int i = 0; i < nodes.size(); i++) {
-            nodeIndexMap.put(nodes.get(i), i);
-        }
+        this(new NodeDictionary(nodes), edges);
+    }
+    
+    /**
+     * Graph over the names already in dictionary, which must contain every
+     * edge endpoint and is not modified afterwards.
+     */
+    public Graph(NodeDictionary dictionary, List<Edge> edges) {
+        this(dictionary, edges, null, null);
+    }
+    
+    /**
+     * Graph whose endpoint ids were already resolved while parsing:
+     * edgeFrom[e] and edgeTo[e] are the dictionary ids of edge e's endpoints.
+     * The arrays are used as given, not copied.
+     */
+    public Graph(NodeDictionary dictionary, List<Edge> edges, int[] edgeFrom, int[] edgeTo) {
+        this.vertices = dictionary.size();
+        this.dictionary = dictionary;
         this.edges = new ArrayList<>(edges);
+        if (edgeFrom == null || edgeTo == null) {
+            edgeFrom = new int[edges.size()];
+            edgeTo = new int[edges.size()];
+            for (int e = 0; e < edgeFrom.length; e++) {
+                Edge edge = this.edges.get(e);
+                edgeFrom[e] = getNodeIndex(edge.getFrom());
+                edgeTo[e] = getNodeIndex(edge.getTo());
+            }
+        } else if (edgeFrom.length != edges.size() || edgeTo.length != edges.size()) {
+            throw new IllegalArgumentException("Endpoint arrays must have one entry per edge");
+        }
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
     }
     
     public int getVertices() {
@@ -26,15 +58,45 @@ public class Graph {
         return new ArrayList<>(edges);
     }
     
+    public int getEdgeCount() {
+        return edges.size();
+    }
+    
+    /**
+     * Edge at the given position of getEdges(), without copying the list.
+     */
+    public Edge getEdge(int index) {
+        return edges.get(index);
+    }
+    
+    /**
+     * Vertex id of the first endpoint of the edge at index.
+     */
+    public int getEdgeFrom(int index) {
+        return edgeFrom[index];
+    }
+    
+    public int getEdgeTo(int index) {
+        return edgeTo[index];
+    }
+    
     public String getNodeName(int index) {
-        return nodeNames.get(index);
+        return dictionary.getName(index);
     }
     
     public int getNodeIndex(String name) {
-        return nodeIndexMap.get(name);
+        int index = dictionary.lookup(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown node: " + name);
+        }
+        return index;
     }
     
     public List<String> getNodeNames() {
-        return new ArrayList<>(nodeNames);
+        return new ArrayList<>(dictionary.getNames());
+    }
+    
+    public NodeDictionary getDictionary() {
+        return dictionary;
     }
 }
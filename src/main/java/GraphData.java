@@ -1,11 +1,17 @@
 package main.java;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.util.List;
 
 public class GraphData {
     private int id;
     private List<String> nodes;
     private List<EdgeData> edges;
+    private List<double[]> points;
     
     public int getId() {
         return id;
@@ -31,10 +37,42 @@ public class GraphData {
         this.edges = edges;
     }
     
+    /**
+     * Point coordinates (2D or 3D) for Euclidean MST input; null for edge-list graphs.
+     */
+    public List<double[]> getPoints() {
+        return points;
+    }
+    
+    public void setPoints(List<double[]> points) {
+        this.points = points;
+    }
+    
+    /**
+     * Widest weight type among the edges; INT for point sets and empty graphs.
+     */
+    public WeightType getWeightType() {
+        WeightType type = WeightType.INT;
+        if (edges != null) {
+            for (EdgeData edge : edges) {
+                type = type.widen(edge.getWeightType());
+            }
+        }
+        return type;
+    }
+    
+    /**
+     * Edge weights default to int. EdgeDataAdapter also accepts integers
+     * beyond the int range and non-integral numbers, which are kept in the
+     * transient long and double fields; plain reflective Gson only sees int.
+     */
     public static class EdgeData {
         private String from;
         private String to;
         private int weight;
+        private transient WeightType weightType; // null means INT
+        private transient long longWeight;
+        private transient double doubleWeight;
         
         public String getFrom() {
             return from;
@@ -52,12 +90,149 @@ public class GraphData {
             this.to = to;
         }
         
+        /**
+         * @throws IllegalStateException if the weight does not fit an int
+         */
         public int getWeight() {
+            if (getWeightType() != WeightType.INT) {
+                throw new IllegalStateException("Edge weight is not an int: " + from + " - " + to);
+            }
             return weight;
         }
         
         public void setWeight(int weight) {
             this.weight = weight;
+            this.weightType = null;
+        }
+        
+        public WeightType getWeightType() {
+            return weightType == null ? WeightType.INT : weightType;
+        }
+        
+        /**
+         * @throws IllegalStateException if the weight is a double
+         */
+        public long getLongWeight() {
+            switch (getWeightType()) {
+                case INT:
+                    return weight;
+                case LONG:
+                    return longWeight;
+                default:
+                    throw new IllegalStateException("Edge weight is not an integer: " + from + " - " + to);
+            }
+        }
+        
+        public double getDoubleWeight() {
+            switch (getWeightType()) {
+                case INT:
+                    return weight;
+                case LONG:
+                    return longWeight;
+                default:
+                    return doubleWeight;
+            }
+        }
+        
+        /**
+         * Stores the weight as an int when it fits, otherwise as a long.
+         */
+        public void setLongWeight(long weight) {
+            if (weight == (int) weight) {
+                setWeight((int) weight);
+            } else {
+                this.longWeight = weight;
+                this.weightType = WeightType.LONG;
+            }
+        }
+        
+        public void setDoubleWeight(double weight) {
+            this.doubleWeight = weight;
+            this.weightType = WeightType.DOUBLE;
+        }
+    }
+    
+    /**
+     * Streams EdgeData with the narrowest weight type per edge: integer
+     * literals become int or long, anything with a fraction or exponent (and
+     * integers beyond the long range) becomes double. Integer literals are
+     * parsed by hand, so the common int case costs no exception and no boxing.
+     */
+    public static class EdgeDataAdapter extends TypeAdapter<EdgeData> {
+        private static final int MAX_LONG_DIGITS = 18; // any 18-digit integer fits a long
+        
+        @Override
+        public EdgeData read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EdgeData edge = new EdgeData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "from":
+                        edge.setFrom(in.nextString());
+                        break;
+                    case "to":
+                        edge.setTo(in.nextString());
+                        break;
+                    case "weight":
+                        readWeight(in.nextString(), edge);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return edge;
+        }
+        
+        private static void readWeight(String text, EdgeData edge) {
+            int start = text.startsWith("-") ? 1 : 0;
+            boolean integral = text.length() > start;
+            for (int i = start; i < text.length() && integral; i++) {
+                char c = text.charAt(i);
+                integral = c >= '0' && c <= '9';
+            }
+            if (!integral) {
+                edge.setDoubleWeight(Double.parseDouble(text));
+            } else if (text.length() - start <= MAX_LONG_DIGITS) {
+                long value = 0;
+                for (int i = start; i < text.length(); i++) {
+                    value = 10 * value + (text.charAt(i) - '0');
+                }
+                edge.setLongWeight(start == 1 ? -value : value);
+            } else {
+                try {
+                    edge.setLongWeight(Long.parseLong(text));
+                } catch (NumberFormatException e) {
+                    edge.setDoubleWeight(Double.parseDouble(text)); // beyond the long range
+                }
+            }
+        }
+        
+        @Override
+        public void write(JsonWriter out, EdgeData edge) throws IOException {
+            if (edge == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from").value(edge.getFrom());
+            out.name("to").value(edge.getTo());
+            out.name("weight");
+            switch (edge.getWeightType()) {
+                case INT:
+                    out.value(edge.getWeight());
+                    break;
+                case LONG:
+                    out.value(edge.getLongWeight());
+                    break;
+                default:
+                    out.value(edge.getDoubleWeight());
+            }
+            out.endObject();
         }
     }
 }
@@ -25,7 +25,7 @@ public class GraphGenerator {
             throw new IllegalArgumentException("Number of edges must be at least vertices - 1 to ensure connectivity");
         }
         
-        if (edges > vertices * (vertices - 1) / 2) {
+        if (edges > (long) vertices * (vertices - 1) / 2) {
             throw new IllegalArgumentException("Too many edges for the number of vertices");
         }
         
@@ -80,6 +80,275 @@ public class GraphGenerator {
         return new Graph(nodeNames, edgeList);
     }
     
+    /**
+     * Generate a graph for a benchmark specification, dispatching on its family
+     * and weight distribution
+     * @param spec Benchmark specification
+     * @return Generated graph
+     */
+    public Graph generateGraph(TestGraphSpec spec) {
+        switch (spec.getFamily()) {
+            case BARABASI_ALBERT:
+                return generateBarabasiAlbert(spec.getVertices(), Math.max(1, spec.getEdges() / spec.getVertices()),
+                    spec.getMaxWeight(), spec.getWeights());
+            case RMAT:
+                return generateRMat(spec.getVertices(), spec.getEdges(), spec.getMaxWeight(), spec.getWeights());
+            case GRID:
+                int columns = (int) Math.ceil(Math.sqrt(spec.getVertices()));
+                return generateGrid(spec.getVertices() / columns, columns, spec.getMaxWeight(), spec.getWeights());
+            case COMPLETE:
+                return generateComplete(spec.getVertices(), spec.getMaxWeight(), spec.getWeights());
+            case CLUSTERED:
+                return generateClustered(spec.getVertices(), spec.getEdges(), Math.max(1, spec.getVertices() / 100),
+                    spec.getMaxWeight(), spec.getWeights());
+            case UNIFORM_RANDOM:
+            default:
+                if (spec.getWeights() == WeightDistribution.UNIFORM) {
+                    return generateGraph(spec.getVertices(), spec.getEdges(), spec.getMaxWeight());
+                }
+                return reweight(generateGraph(spec.getVertices(), spec.getEdges(), spec.getMaxWeight()),
+                    spec.getMaxWeight(), spec.getWeights());
+        }
+    }
+    
+    /**
+     * Generate a Barabási–Albert preferential-attachment graph (power-law degrees).
+     * Each new vertex attaches to edgesPerVertex distinct existing vertices chosen
+     * proportionally to their degree.
+     * @param vertices Number of vertices
+     * @param edgesPerVertex Edges added with each new vertex
+     * @param maxWeight Maximum edge weight
+     * @param weights Weight distribution
+     * @return Generated graph (connected)
+     */
+    public Graph generateBarabasiAlbert(int vertices, int edgesPerVertex, int maxWeight, WeightDistribution weights) {
+        WeightSampler sampler = new WeightSampler(weights, maxWeight);
+        List<String> nodeNames = nodeNames(vertices);
+        List<Edge> edgeList = new ArrayList<>();
+        
+        // Every edge endpoint is appended here, so a uniform pick is degree-proportional
+        int[] endpoints = new int[2 * vertices * edgesPerVertex + 2];
+        int endpointCount = 0;
+        Set<Integer> targets = new HashSet<>();
+        
+        for (int v = 1; v < vertices; v++) {
+            targets.clear();
+            int links = Math.min(edgesPerVertex, v);
+            while (targets.size() < links) {
+                targets.add(endpointCount == 0 ? 0 : endpoints[random.nextInt(endpointCount)]);
+            }
+            for (int target : targets) {
+                edgeList.add(new Edge(nodeNames.get(target), nodeNames.get(v), sampler.next()));
+                endpoints[endpointCount++] = target;
+                endpoints[endpointCount++] = v;
+            }
+        }
+        
+        return new Graph(nodeNames, edgeList);
+    }
+    
+    /**
+     * Generate an R-MAT graph: each edge recursively picks one quadrant of the
+     * adjacency matrix with probabilities (0.57, 0.19, 0.19, 0.05), giving a
+     * skewed, community-structured power-law graph. A random spanning tree is
+     * added first to ensure connectivity.
+     * @param vertices Number of vertices
+     * @param edges Target number of edges (including the spanning tree)
+     * @param maxWeight Maximum edge weight
+     * @param weights Weight distribution
+     * @return Generated graph (connected)
+     */
+    public Graph generateRMat(int vertices, int edges, int maxWeight, WeightDistribution weights) {
+        checkEdgeCount(vertices, edges);
+        WeightSampler sampler = new WeightSampler(weights, maxWeight);
+        List<String> nodeNames = nodeNames(vertices);
+        List<Edge> edgeList = new ArrayList<>();
+        Set<Long> existingEdges = new HashSet<>();
+        addRandomSpanningTree(nodeNames, edgeList, existingEdges, sampler);
+        
+        int scale = 32 - Integer.numberOfLeadingZeros(Math.max(1, vertices - 1));
+        int attempts = 0;
+        int maxAttempts = (edges - edgeList.size()) * 10;
+        while (edgeList.size() < edges && attempts++ < maxAttempts) {
+            int u = 0;
+            int v = 0;
+            for (int bit = 0; bit < scale; bit++) {
+                double p = random.nextDouble();
+                if (p < 0.57) {
+                    continue;
+                } else if (p < 0.76) {
+                    v |= 1 << bit;
+                } else if (p < 0.95) {
+                    u |= 1 << bit;
+                } else {
+                    u |= 1 << bit;
+                    v |= 1 << bit;
+                }
+            }
+            if (u < vertices && v < vertices && u != v && existingEdges.add(pairKey(u, v))) {
+                edgeList.add(new Edge(nodeNames.get(u), nodeNames.get(v), sampler.next()));
+            }
+        }
+        
+        return new Graph(nodeNames, edgeList);
+    }
+    
+    /**
+     * Generate a road-like 2D grid: 4-neighbour lattice plus a diagonal shortcut
+     * in roughly 5% of the cells.
+     * @param rows Number of grid rows
+     * @param columns Number of grid columns
+     * @param maxWeight Maximum edge weight
+     * @param weights Weight distribution
+     * @return Generated graph (connected)
+     */
+    public Graph generateGrid(int rows, int columns, int maxWeight, WeightDistribution weights) {
+        WeightSampler sampler = new WeightSampler(weights, maxWeight);
+        List<String> nodeNames = nodeNames(rows * columns);
+        List<Edge> edgeList = new ArrayList<>();
+        
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int v = r * columns + c;
+                if (c + 1 < columns) {
+                    edgeList.add(new Edge(nodeNames.get(v), nodeNames.get(v + 1), sampler.next()));
+                }
+                if (r + 1 < rows) {
+                    edgeList.add(new Edge(nodeNames.get(v), nodeNames.get(v + columns), sampler.next()));
+                }
+                if (r + 1 < rows && c + 1 < columns && random.nextInt(20) == 0) {
+                    edgeList.add(new Edge(nodeNames.get(v), nodeNames.get(v + columns + 1), sampler.next()));
+                }
+            }
+        }
+        
+        return new Graph(nodeNames, edgeList);
+    }
+    
+    /**
+     * Generate a complete graph
+     * @param vertices Number of vertices
+     * @param maxWeight Maximum edge weight
+     * @param weights Weight distribution
+     * @return Generated graph with V(V-1)/2 edges
+     */
+    public Graph generateComplete(int vertices, int maxWeight, WeightDistribution weights) {
+        WeightSampler sampler = new WeightSampler(weights, maxWeight);
+        List<String> nodeNames = nodeNames(vertices);
+        List<Edge> edgeList = new ArrayList<>();
+        for (int u = 0; u < vertices; u++) {
+            for (int v = u + 1; v < vertices; v++) {
+                edgeList.add(new Edge(nodeNames.get(u), nodeNames.get(v), sampler.next()));
+            }
+        }
+        return new Graph(nodeNames, edgeList);
+    }
+    
+    /**
+     * Generate a clustered graph: dense random clusters joined by a few heavy
+     * inter-cluster edges (about 5% of all edges).
+     * @param vertices Number of vertices
+     * @param edges Target number of edges
+     * @param clusters Number of clusters
+     * @param maxWeight Maximum edge weight
+     * @param weights Weight distribution inside clusters
+     * @return Generated graph (connected)
+     */
+    public Graph generateClustered(int vertices, int edges, int clusters, int maxWeight, WeightDistribution weights) {
+        checkEdgeCount(vertices, edges);
+        WeightSampler sampler = new WeightSampler(weights, maxWeight);
+        List<String> nodeNames = nodeNames(vertices);
+        List<Edge> edgeList = new ArrayList<>();
+        Set<Long> existingEdges = new HashSet<>();
+        int clusterSize = (vertices + clusters - 1) / clusters;
+        
+        // Spanning tree inside each cluster, then a chain of bridges between clusters
+        for (int v = 1; v < vertices; v++) {
+            int clusterStart = v / clusterSize * clusterSize;
+            int u = v == clusterStart ? clusterStart - clusterSize + random.nextInt(clusterSize) : clusterStart + random.nextInt(v - clusterStart);
+            int weight = v == clusterStart ? maxWeight - random.nextInt(Math.max(1, maxWeight / 10)) : sampler.next();
+            existingEdges.add(pairKey(u, v));
+            edgeList.add(new Edge(nodeNames.get(u), nodeNames.get(v), weight));
+        }
+        
+        int attempts = 0;
+        int maxAttempts = (edges - edgeList.size()) * 10;
+        while (edgeList.size() < edges && attempts++ < maxAttempts) {
+            int u = random.nextInt(vertices);
+            int v;
+            int weight;
+            if (random.nextInt(20) == 0) {
+                v = random.nextInt(vertices); // inter-cluster edge, heavy
+                weight = maxWeight - random.nextInt(Math.max(1, maxWeight / 10));
+            } else {
+                int clusterStart = u / clusterSize * clusterSize;
+                v = clusterStart + random.nextInt(Math.min(clusterSize, vertices - clusterStart));
+                weight = sampler.next();
+            }
+            if (u != v && existingEdges.add(pairKey(u, v))) {
+                edgeList.add(new Edge(nodeNames.get(u), nodeNames.get(v), weight));
+            }
+        }
+        
+        return new Graph(nodeNames, edgeList);
+    }
+    
+    /**
+     * Same topology with weights redrawn from the given distribution
+     */
+    private Graph reweight(Graph graph, int maxWeight, WeightDistribution weights) {
+        WeightSampler sampler = new WeightSampler(weights, maxWeight);
+        List<Edge> edgeList = new ArrayList<>();
+        for (Edge edge : graph.getEdges()) {
+            edgeList.add(new Edge(edge.getFrom(), edge.getTo(), sampler.next()));
+        }
+        return new Graph(graph.getNodeNames(), edgeList);
+    }
+    
+    private void addRandomSpanningTree(List<String> nodeNames, List<Edge> edgeList, Set<Long> existingEdges, WeightSampler sampler) {
+        for (int v = 1; v < nodeNames.size(); v++) {
+            int u = random.nextInt(v);
+            existingEdges.add(pairKey(u, v));
+            edgeList.add(new Edge(nodeNames.get(u), nodeNames.get(v), sampler.next()));
+        }
+    }
+    
+    private static void checkEdgeCount(int vertices, int edges) {
+        if (edges < vertices - 1) {
+            throw new IllegalArgumentException("Number of edges must be at least vertices - 1 to ensure connectivity");
+        }
+        if (edges > (long) vertices * (vertices - 1) / 2) {
+            throw new IllegalArgumentException("Too many edges for the number of vertices");
+        }
+    }
+    
+    private static List<String> nodeNames(int vertices) {
+        List<String> nodeNames = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            nodeNames.add("V" + i);
+        }
+        return nodeNames;
+    }
+    
+    private static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+    
+    /**
+     * Generate uniformly random points for Euclidean MST benchmarks
+     * @param points Number of points
+     * @param dimensions 2 or 3
+     * @param extent Coordinates are drawn from [0, extent)
+     * @return Generated point set with points named P0, P1, ...
+     */
+    public PointSet generatePointSet(int points, int dimensions, double extent) {
+        double[] coordinates = new double[points * dimensions];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = random.nextDouble() * extent;
+        }
+        return new PointSet(dimensions, coordinates, null);
+    }
+    
     private String getEdgeKey(String v1, String v2) {
         // Ensure consistent key regardless of order
         return v1.compareTo(v2) < 0 ? v1 + "-" + v2 : v2 + "-" + v1;
@@ -91,6 +360,8 @@ public class GraphGenerator {
      * - medium: 10 graphs with < 300 vertices  
      * - large: 10 graphs with < 1000 vertices
      * - extra: 5 graphs with < 3000 vertices
+     * plus 3 graphs per topology family (power-law Barabási–Albert and R-MAT,
+     * grid, complete, clustered), one per weight distribution
      */
     public static List<TestGraphSpec> generateTestSpecification() {
         List<TestGraphSpec> specs = new ArrayList<>();
@@ -123,20 +394,118 @@ public class GraphGenerator {
             specs.add(new TestGraphSpec("extra_" + (i + 1), vertices, edges, 50000));
         }
         
+        // Topology families, each with uniform, Zipf and few-distinct weights
+        WeightDistribution[] distributions = WeightDistribution.values();
+        for (int i = 0; i < 3; i++) {
+            WeightDistribution weights = distributions[i];
+            String suffix = weights.name().toLowerCase() + "_" + (i + 1);
+            
+            int baVertices = 1000 << i; // 1000, 2000, 4000
+            specs.add(new TestGraphSpec("powerlaw_ba_" + suffix, baVertices, baVertices * 4, 10000,
+                GraphFamily.BARABASI_ALBERT, weights));
+            
+            int rmatVertices = 1024 << i; // 1024, 2048, 4096
+            specs.add(new TestGraphSpec("powerlaw_rmat_" + suffix, rmatVertices, rmatVertices * 8, 10000,
+                GraphFamily.RMAT, weights));
+            
+            int side = 32 + 16 * i; // 32x32, 48x48, 64x64
+            specs.add(new TestGraphSpec("grid_" + suffix, side * side, 2 * side * side, 10000,
+                GraphFamily.GRID, weights));
+            
+            int completeVertices = 50 + 50 * i; // 50, 100, 150
+            specs.add(new TestGraphSpec("complete_" + suffix, completeVertices,
+                completeVertices * (completeVertices - 1) / 2, 10000, GraphFamily.COMPLETE, weights));
+            
+            int clusteredVertices = 1000 << i; // 1000, 2000, 4000
+            specs.add(new TestGraphSpec("clustered_" + suffix, clusteredVertices, clusteredVertices * 6, 10000,
+                GraphFamily.CLUSTERED, weights));
+        }
+        
         return specs;
     }
     
+    /**
+     * Graph topologies available to the benchmark matrix
+     */
+    public enum GraphFamily {
+        UNIFORM_RANDOM,
+        BARABASI_ALBERT,
+        RMAT,
+        GRID,
+        COMPLETE,
+        CLUSTERED
+    }
+    
+    /**
+     * Edge weight distributions, all over [1, maxWeight]
+     */
+    public enum WeightDistribution {
+        UNIFORM,
+        ZIPF,
+        FEW_DISTINCT
+    }
+    
+    /**
+     * Draws edge weights. Zipf (exponent 1.1) uses an inverse-CDF table over the
+     * weight range; FEW_DISTINCT spreads 4 values evenly across it.
+     */
+    private class WeightSampler {
+        private static final int DISTINCT_VALUES = 4;
+        
+        private final WeightDistribution distribution;
+        private final int maxWeight;
+        private double[] cumulative;
+        
+        WeightSampler(WeightDistribution distribution, int maxWeight) {
+            this.distribution = distribution;
+            this.maxWeight = maxWeight;
+            if (distribution == WeightDistribution.ZIPF) {
+                cumulative = new double[maxWeight];
+                double sum = 0;
+                for (int k = 1; k <= maxWeight; k++) {
+                    sum += 1.0 / Math.pow(k, 1.1);
+                    cumulative[k - 1] = sum;
+                }
+                for (int k = 0; k < maxWeight; k++) {
+                    cumulative[k] /= sum;
+                }
+            }
+        }
+        
+        int next() {
+            switch (distribution) {
+                case ZIPF:
+                    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+                    return (index >= 0 ? index : -index - 1) + 1;
+                case FEW_DISTINCT:
+                    return 1 + (maxWeight - 1) * random.nextInt(DISTINCT_VALUES) / (DISTINCT_VALUES - 1);
+                case UNIFORM:
+                default:
+                    return random.nextInt(maxWeight) + 1;
+            }
+        }
+    }
+    
     public static class TestGraphSpec {
         private final String name;
         private final int vertices;
         private final int edges;
         private final int maxWeight;
+        private final GraphFamily family;
+        private final WeightDistribution weights;
         
         public TestGraphSpec(String name, int vertices, int edges, int maxWeight) {
+            this(name, vertices, edges, maxWeight, GraphFamily.UNIFORM_RANDOM, WeightDistribution.UNIFORM);
+        }
+        
+        public TestGraphSpec(String name, int vertices, int edges, int maxWeight,
+                             GraphFamily family, WeightDistribution weights) {
             this.name = name;
             this.vertices = vertices;
             this.edges = edges;
             this.maxWeight = maxWeight;
+            this.family = family;
+            this.weights = weights;
         }
         
         public String getName() {
@@ -155,9 +524,26 @@ public class GraphGenerator {
             return maxWeight;
         }
         
+        public GraphFamily getFamily() {
+            return family;
+        }
+        
+        public WeightDistribution getWeights() {
+            return weights;
+        }
+        
+        /**
+         * Benchmark category: the name up to its first underscore
+         */
+        public String getCategory() {
+            int separator = name.indexOf('_');
+            return separator < 0 ? name : name.substring(0, separator);
+        }
+        
         @Override
         public String toString() {
-            return String.format("%s: V=%d, E=%d, MaxWeight=%d", name, vertices, edges, maxWeight);
+            return String.format("%s: V=%d, E=%d, MaxWeight=%d, Family=%s, Weights=%s",
+                name, vertices, edges, maxWeight, family, weights);
         }
     }
 }
@@ -0,0 +1,136 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Reduces a graph before it reaches an MST solver, in linear time:
+ * - self-loops are dropped (never part of a spanning tree)
+ * - of several parallel edges between the same pair only the lightest is kept
+ * - degree-1 vertices are peeled off repeatedly; the single edge of a leaf is
+ *   in every spanning tree, so it is recorded as forced and removed
+ *
+ * Parallel edges are detected with an open-addressing table keyed by the
+ * packed vertex pair, and leaves are peeled using a per-vertex XOR of
+ * incident edge ids (for a degree-1 vertex that XOR is its last edge), so no
+ * adjacency lists are built.
+ */
+public class GraphPreprocessor {
+    private static final long EMPTY = -1L;
+    
+    public PreprocessedGraph preprocess(Graph graph) {
+        long startTime = System.nanoTime();
+        int operationsCount = 0;
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), graph.getEdgeCount());
+        timer.start(MSTPhase.PREPROCESS);
+        
+        IndexedGraph g = IndexedGraph.of(graph);
+        int vertices = g.getVertices();
+        int edgeCount = g.getEdgeCount();
+        boolean[] removed = new boolean[edgeCount];
+        int selfLoops = 0;
+        int parallelEdges = 0;
+        
+        // Pass 1: drop self-loops, keep the lightest of each parallel group
+        int capacity = Integer.highestOneBit(Math.max(2, edgeCount * 2 - 1)) << 1;
+        long[] keys = new long[capacity];
+        int[] slots = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        for (int e = 0; e < edgeCount; e++) {
+            operationsCount++; // scanning edges
+            int u = g.getFrom(e);
+            int v = g.getTo(e);
+            if (u == v) {
+                removed[e] = true;
+                selfLoops++;
+                continue;
+            }
+            long key = ((long) Math.min(u, v) << 32) | Math.max(u, v);
+            int slot = hash(key) & (capacity - 1);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & (capacity - 1);
+                operationsCount++; // probing
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                slots[slot] = e;
+            } else {
+                int kept = slots[slot];
+                if (g.getWeight(e) < g.getWeight(kept)) {
+                    removed[kept] = true;
+                    slots[slot] = e;
+                } else {
+                    removed[e] = true;
+                }
+                parallelEdges++;
+            }
+        }
+        
+        // Pass 2: peel degree-1 vertices
+        int[] degree = new int[vertices];
+        int[] incidentXor = new int[vertices];
+        for (int e = 0; e < edgeCount; e++) {
+            if (!removed[e]) {
+                degree[g.getFrom(e)]++;
+                degree[g.getTo(e)]++;
+                incidentXor[g.getFrom(e)] ^= e;
+                incidentXor[g.getTo(e)] ^= e;
+            }
+        }
+        
+        int[] queue = new int[vertices];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < vertices; v++) {
+            if (degree[v] == 1) {
+                queue[tail++] = v;
+            }
+        }
+        
+        List<Edge> forcedEdges = new ArrayList<>();
+        long forcedCost = 0;
+        while (head < tail) {
+            int leaf = queue[head++];
+            operationsCount++; // peeling leaf
+            if (degree[leaf] != 1) {
+                continue; // its neighbour was peeled first and took the edge
+            }
+            int e = incidentXor[leaf];
+            int other = g.other(e, leaf);
+            removed[e] = true;
+            forcedEdges.add(g.getEdge(e));
+            forcedCost += g.getWeight(e);
+            degree[leaf] = 0;
+            incidentXor[leaf] = 0;
+            degree[other]--;
+            incidentXor[other] ^= e;
+            if (degree[other] == 1) {
+                queue[tail++] = other;
+            }
+        }
+        
+        // Kernel: vertices that still have edges, and the surviving edges
+        List<String> kernelNodes = new ArrayList<>();
+        for (int v = 0; v < vertices; v++) {
+            if (degree[v] > 0) {
+                kernelNodes.add(graph.getNodeName(v));
+            }
+        }
+        List<Edge> kernelEdges = new ArrayList<>();
+        for (int e = 0; e < edgeCount; e++) {
+            if (!removed[e]) {
+                kernelEdges.add(g.getEdge(e));
+            }
+        }
+        operationsCount += vertices + edgeCount; // building the kernel
+        timer.stop();
+        
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new PreprocessedGraph(new Graph(kernelNodes, kernelEdges), forcedEdges, forcedCost,
+            vertices, edgeCount, selfLoops, parallelEdges, operationsCount, executionTimeMs);
+    }
+    
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
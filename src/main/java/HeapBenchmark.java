@@ -0,0 +1,81 @@
+package main.java;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Compares the IndexedPriorityQueue implementations inside eager Prim for each
+ * workload family and several weight ranges, and reports the fastest heap.
+ */
+public class HeapBenchmark {
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final int BUCKET_QUEUE_MAX_WEIGHT = 1 << 16;
+    
+    public static void main(String[] args) {
+        Map<String, Supplier<IndexedPriorityQueue>> queues = new LinkedHashMap<>();
+        queues.put("binary", () -> new DaryHeapQueue(2));
+        queues.put("4-ary", () -> new DaryHeapQueue(4));
+        queues.put("8-ary", () -> new DaryHeapQueue(8));
+        queues.put("pairing", PairingHeapQueue::new);
+        queues.put("bucket", BucketQueue::new);
+        
+        System.out.println("=".repeat(100));
+        System.out.println("Prim Priority Queue Benchmark (median of " + MEASURED_RUNS + " runs, ms)");
+        System.out.println("=".repeat(100));
+        System.out.printf("%-16s %9s %8s %8s", "Family", "MaxWeight", "V", "E");
+        for (String name : queues.keySet()) {
+            System.out.printf(" %9s", name);
+        }
+        System.out.printf("  %s\n", "Winner");
+        System.out.println("-".repeat(100));
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        int[] maxWeights = {16, 1000, 1000000};
+        for (GraphGenerator.GraphFamily family : GraphGenerator.GraphFamily.values()) {
+            for (int maxWeight : maxWeights) {
+                int vertices = family == GraphGenerator.GraphFamily.COMPLETE ? 1000 : 50000;
+                int edges = family == GraphGenerator.GraphFamily.COMPLETE ? vertices * (vertices - 1) / 2 : vertices * 5;
+                GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec(family.name().toLowerCase(),
+                    vertices, edges, maxWeight, family, GraphGenerator.WeightDistribution.UNIFORM);
+                Graph graph = generator.generateGraph(spec);
+                long expectedCost = new KruskalAlgorithm().findMST(graph).getTotalCost();
+                
+                System.out.printf("%-16s %9d %8d %8d", spec.getName(), maxWeight, graph.getVertices(), graph.getEdgeCount());
+                String winner = null;
+                double best = Double.MAX_VALUE;
+                for (Map.Entry<String, Supplier<IndexedPriorityQueue>> queue : queues.entrySet()) {
+                    if (queue.getKey().equals("bucket") && maxWeight > BUCKET_QUEUE_MAX_WEIGHT) {
+                        System.out.printf(" %9s", "-");
+                        continue;
+                    }
+                    double time = medianTime(new PrimAlgorithm(queue.getValue()), graph, expectedCost);
+                    System.out.printf(" %9.2f", time);
+                    if (time < best) {
+                        best = time;
+                        winner = queue.getKey();
+                    }
+                }
+                System.out.printf("  %s\n", winner);
+            }
+        }
+        
+        System.out.println("=".repeat(100));
+    }
+    
+    private static double medianTime(PrimAlgorithm prim, Graph graph, long expectedCost) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            prim.findMST(graph);
+        }
+        double[] times = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            MSTResult result = prim.findMST(graph);
+            if (result.getTotalCost() != expectedCost) {
+                throw new IllegalStateException("Prim cost mismatch");
+            }
+            times[i] = result.getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+}
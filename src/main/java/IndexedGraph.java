@@ -0,0 +1,122 @@
+package main.java;
+
+import java.util.List;
+
+/**
+ * Integer-indexed view of a Graph. Endpoints are stored as vertex indices in
+ * parallel arrays and the adjacency is kept in compressed sparse row form, so
+ * solvers can work on primitives instead of String keys.
+ */
+public class IndexedGraph {
+    private final int vertices;
+    private final Edge[] edges;
+    private final int[] from;
+    private final int[] to;
+    private final int[] weight;
+    private int[] offsets;
+    private int[] adjacency;
+    
+    private IndexedGraph(int vertices, Edge[] edges, int[] from, int[] to, int[] weight) {
+        this.vertices = vertices;
+        this.edges = edges;
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+    }
+    
+    public static IndexedGraph of(Graph graph) {
+        List<Edge> edgeList = graph.getEdges();
+        int count = edgeList.size();
+        Edge[] edges = new Edge[count];
+        int[] from = new int[count];
+        int[] to = new int[count];
+        int[] weight = new int[count];
+        for (int e = 0; e < count; e++) {
+            Edge edge = edgeList.get(e);
+            edges[e] = edge;
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            weight[e] = edge.getWeight();
+        }
+        return new IndexedGraph(graph.getVertices(), edges, from, to, weight);
+    }
+    
+    public int getVertices() {
+        return vertices;
+    }
+    
+    public int getEdgeCount() {
+        return edges.length;
+    }
+    
+    public Edge getEdge(int e) {
+        return edges[e];
+    }
+    
+    public int getFrom(int e) {
+        return from[e];
+    }
+    
+    public int getTo(int e) {
+        return to[e];
+    }
+    
+    public int getWeight(int e) {
+        return weight[e];
+    }
+    
+    /**
+     * Endpoint of edge e that is not v (v itself for self-loops).
+     */
+    public int other(int e, int v) {
+        return from[e] == v ? to[e] : from[e];
+    }
+    
+    /**
+     * Index into getAdjacency() where the incident edges of v start.
+     * The range for v is [getOffsets()[v], getOffsets()[v + 1]).
+     */
+    public int[] getOffsets() {
+        if (offsets == null) {
+            buildAdjacency();
+        }
+        return offsets;
+    }
+    
+    /**
+     * Edge ids grouped by incident vertex; each edge appears once per endpoint.
+     */
+    public int[] getAdjacency() {
+        if (adjacency == null) {
+            buildAdjacency();
+        }
+        return adjacency;
+    }
+    
+    /**
+     * Sort key giving a strict total order on edges: by weight, then by edge id.
+     * The low 32 bits hold the edge id, so (int) key recovers it.
+     */
+    public long edgeKey(int e) {
+        return ((long) weight[e] << 32) | e;
+    }
+    
+    private void buildAdjacency() {
+        int[] start = new int[vertices + 1];
+        for (int e = 0; e < edges.length; e++) {
+            start[from[e] + 1]++;
+            start[to[e] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = new int[vertices];
+        int[] adj = new int[start[vertices]];
+        for (int e = 0; e < edges.length; e++) {
+            adj[start[from[e]] + fill[from[e]]++] = e;
+            adj[start[to[e]] + fill[to[e]]++] = e;
+        }
+        adjacency = adj;
+        offsets = start;
+    }
+}
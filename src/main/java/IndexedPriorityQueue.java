@@ -0,0 +1,42 @@
+package main.java;
+
+/**
+ * Priority queue over vertex ids 0..capacity-1 with primitive long keys and
+ * decrease-key, the operations eager Prim needs. Implementations are
+ * interchangeable through {@code PrimAlgorithm(Supplier<IndexedPriorityQueue>)}.
+ */
+public interface IndexedPriorityQueue {
+    
+    /**
+     * Empties the queue and prepares it for ids below capacity. maxKey is an
+     * upper bound on the keys that will be inserted, used by bounded-range
+     * queues. Implementations may reuse their arrays across calls.
+     */
+    void reset(int capacity, long maxKey);
+    
+    boolean isEmpty();
+    
+    int size();
+    
+    boolean contains(int item);
+    
+    /**
+     * Adds an item that is not currently in the queue.
+     */
+    void insert(int item, long key);
+    
+    /**
+     * Lowers the key of an item already in the queue; key must not exceed the current key.
+     */
+    void decreaseKey(int item, long key);
+    
+    /**
+     * Removes and returns the item with the smallest key.
+     */
+    int extractMin();
+    
+    /**
+     * Short name used in benchmark reports.
+     */
+    String getName();
+}
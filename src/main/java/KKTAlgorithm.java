@@ -0,0 +1,425 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Karger-Klein-Tarjan randomized MST (minimum spanning forest on
+ * disconnected input), expected linear time apart from the path-max step:
+ * 1. two Borůvka steps add each vertex's lightest edge and contract, at
+ *    least quartering the number of vertices
+ * 2. each remaining edge is sampled with probability 1/2 and the MSF F of
+ *    the sample is found recursively
+ * 3. F-heavy edges (heavier than every edge on the F-path between their
+ *    endpoints) cannot be in the MSF and are dropped; the expected number
+ *    of F-light edges left is at most 2V
+ * 4. the MSF of the remaining graph is found recursively
+ *
+ * Path maxima in step 3 are computed offline with Tarjan's LCA traversal
+ * and a max-carrying union-find, which is O(E α) rather than the strictly
+ * linear Komlós/King verification but much simpler and fast in practice.
+ * Small subproblems fall back to sorting.
+ *
+ * Edges are compared by (weight, input position), the same order Kruskal
+ * uses, so both return the same tree.
+ */
+public class KKTAlgorithm {
+    private static final int BASE_CASE_EDGES = 2048;
+    
+    private final Random random;
+    private int operationsCount;
+    private int[] positionOfEdge; // scratch for the sorting base case, indexed by input edge id
+    
+    public KKTAlgorithm() {
+        this(42); // Fixed seed for reproducibility
+    }
+    
+    public KKTAlgorithm(long seed) {
+        this.random = new Random(seed);
+    }
+    
+    public MSTResult findMST(Graph graph) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        IndexedGraph g = IndexedGraph.of(graph);
+        int edgeCount = g.getEdgeCount();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        long[] keys = new long[edgeCount];
+        int m = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (g.getFrom(e) != g.getTo(e)) { // self-loops never belong to a forest
+                from[m] = g.getFrom(e);
+                to[m] = g.getTo(e);
+                keys[m] = g.edgeKey(e);
+                m++;
+            }
+        }
+        operationsCount += edgeCount; // copying edges
+        positionOfEdge = new int[edgeCount];
+        
+        IntList forest = solve(g.getVertices(), from, to, keys, m);
+        positionOfEdge = null;
+        
+        // Forest entries index the copied arrays, whose keys carry the edge id
+        List<Edge> mstEdges = new ArrayList<>(forest.size);
+        long totalCost = 0;
+        for (int i = 0; i < forest.size; i++) {
+            int e = (int) keys[forest.items[i]];
+            mstEdges.add(g.getEdge(e));
+            totalCost += g.getWeight(e);
+            operationsCount++; // adding edge to MST
+        }
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+    }
+    
+    /**
+     * MSF of the graph on vertices 0..n-1 with edges [0, m) of the arrays.
+     * @return positions (into the arrays) of the forest edges
+     */
+    private IntList solve(int n, int[] from, int[] to, long[] keys, int m) {
+        IntList forest = new IntList();
+        if (m == 0) {
+            return forest;
+        }
+        if (m <= BASE_CASE_EDGES) {
+            sortedMSF(n, from, to, keys, m, forest);
+            return forest;
+        }
+        
+        // Step 1: two Borůvka steps
+        Contraction first = boruvkaStep(n, from, to, keys, m, forest, null);
+        Contraction second = boruvkaStep(first.vertices, first.from, first.to, first.keys, first.edges, forest, first.origin);
+        int n2 = second.vertices;
+        int m2 = second.edges;
+        if (m2 == 0) {
+            return forest;
+        }
+        
+        // Step 2: recurse on a random half of the edges
+        int[] sampleFrom = new int[m2];
+        int[] sampleTo = new int[m2];
+        long[] sampleKeys = new long[m2];
+        int[] sampleOrigin = new int[m2];
+        int sampled = 0;
+        long bits = 0;
+        for (int i = 0; i < m2; i++) {
+            if ((i & 63) == 0) {
+                bits = random.nextLong();
+            }
+            if ((bits & 1) != 0) {
+                sampleFrom[sampled] = second.from[i];
+                sampleTo[sampled] = second.to[i];
+                sampleKeys[sampled] = second.keys[i];
+                sampleOrigin[sampled] = i;
+                sampled++;
+            }
+            bits >>>= 1;
+        }
+        operationsCount += m2; // sampling
+        IntList sampleForest = solve(n2, sampleFrom, sampleTo, sampleKeys, sampled);
+        
+        // Step 3: keep only the F-light edges
+        int[] treeEdges = new int[sampleForest.size];
+        for (int i = 0; i < sampleForest.size; i++) {
+            treeEdges[i] = sampleOrigin[sampleForest.items[i]];
+        }
+        boolean[] light = markLightEdges(n2, second.from, second.to, second.keys, m2, treeEdges);
+        int[] lightFrom = new int[m2];
+        int[] lightTo = new int[m2];
+        long[] lightKeys = new long[m2];
+        int[] lightOrigin = new int[m2];
+        int lightCount = 0;
+        for (int i = 0; i < m2; i++) {
+            if (light[i]) {
+                lightFrom[lightCount] = second.from[i];
+                lightTo[lightCount] = second.to[i];
+                lightKeys[lightCount] = second.keys[i];
+                lightOrigin[lightCount] = second.origin[i];
+                lightCount++;
+            }
+        }
+        
+        // Step 4: MSF of the light edges, mapped back to this call's positions
+        IntList rest = solve(n2, lightFrom, lightTo, lightKeys, lightCount);
+        for (int i = 0; i < rest.size; i++) {
+            forest.add(lightOrigin[rest.items[i]]);
+        }
+        return forest;
+    }
+    
+    /**
+     * Kruskal on the subproblem: used below BASE_CASE_EDGES.
+     */
+    private void sortedMSF(int n, int[] from, int[] to, long[] keys, int m, IntList forest) {
+        // The low 32 bits of a key are the input edge id, which leads back to the position
+        for (int i = 0; i < m; i++) {
+            positionOfEdge[(int) keys[i]] = i;
+        }
+        long[] sorted = Arrays.copyOf(keys, m);
+        Arrays.sort(sorted);
+        operationsCount += m; // counting sort operations
+        
+        UnionFind uf = new UnionFind(n);
+        for (int i = 0; i < m && forest.size < n - 1; i++) {
+            int p = positionOfEdge[(int) sorted[i]];
+            operationsCount++; // find operation
+            if (uf.union(from[p], to[p])) {
+                forest.add(p);
+                operationsCount++; // union operation
+            }
+        }
+    }
+    
+    /**
+     * Adds every vertex's lightest edge to the forest (as a position in the
+     * caller's arrays, translated through origin) and contracts them.
+     */
+    private Contraction boruvkaStep(int n, int[] from, int[] to, long[] keys, int m, IntList forest, int[] origin) {
+        long[] bestKey = new long[n];
+        int[] best = new int[n];
+        Arrays.fill(bestKey, Long.MAX_VALUE);
+        Arrays.fill(best, -1);
+        for (int i = 0; i < m; i++) {
+            long key = keys[i];
+            if (key < bestKey[from[i]]) {
+                bestKey[from[i]] = key;
+                best[from[i]] = i;
+            }
+            if (key < bestKey[to[i]]) {
+                bestKey[to[i]] = key;
+                best[to[i]] = i;
+            }
+        }
+        operationsCount += m; // finding lightest incident edges
+        
+        // Keys are distinct, so the chosen edges form a forest; union only skips duplicates
+        UnionFind uf = new UnionFind(n);
+        for (int v = 0; v < n; v++) {
+            int e = best[v];
+            if (e >= 0 && uf.union(from[e], to[e])) {
+                forest.add(origin == null ? e : origin[e]);
+                operationsCount++; // adding edge to MST
+            }
+        }
+        
+        // Relabel components; vertices without edges are dropped
+        int[] rootLabel = new int[n];
+        int[] label = new int[n];
+        Arrays.fill(rootLabel, -1);
+        int vertices = 0;
+        for (int v = 0; v < n; v++) {
+            if (best[v] >= 0) {
+                int root = uf.find(v);
+                if (rootLabel[root] < 0) {
+                    rootLabel[root] = vertices++;
+                }
+                label[v] = rootLabel[root];
+            }
+        }
+        
+        Contraction next = new Contraction(vertices, m);
+        for (int i = 0; i < m; i++) {
+            int a = label[from[i]];
+            int b = label[to[i]];
+            if (a != b) {
+                next.from[next.edges] = a;
+                next.to[next.edges] = b;
+                next.keys[next.edges] = keys[i];
+                next.origin[next.edges] = origin == null ? i : origin[i];
+                next.edges++;
+            }
+        }
+        operationsCount += n + m; // contracting
+        return next;
+    }
+    
+    /**
+     * Marks the edges that are light with respect to the forest formed by
+     * treeEdges: forest edges themselves, edges joining different trees, and
+     * edges lighter than the heaviest forest edge on the path between their
+     * endpoints.
+     */
+    private boolean[] markLightEdges(int n, int[] from, int[] to, long[] keys, int m, int[] treeEdges) {
+        boolean[] light = new boolean[m];
+        
+        // Forest adjacency
+        int[] start = new int[n + 1];
+        for (int e : treeEdges) {
+            start[from[e] + 1]++;
+            start[to[e] + 1]++;
+            light[e] = true;
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = Arrays.copyOf(start, n);
+        int[] adjacency = new int[2 * treeEdges.length];
+        for (int e : treeEdges) {
+            adjacency[fill[from[e]]++] = e;
+            adjacency[fill[to[e]]++] = e;
+        }
+        
+        // Root every tree and record a preorder
+        int[] tree = new int[n];
+        int[] parent = new int[n];
+        long[] parentKey = new long[n];
+        int[] preorder = new int[n];
+        int[] stack = new int[n];
+        Arrays.fill(tree, -1);
+        int visited = 0;
+        for (int root = 0; root < n; root++) {
+            if (tree[root] >= 0) {
+                continue;
+            }
+            tree[root] = root;
+            parent[root] = -1;
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int u = stack[--top];
+                preorder[visited++] = u;
+                for (int i = start[u]; i < start[u + 1]; i++) {
+                    int e = adjacency[i];
+                    int v = from[e] == u ? to[e] : from[e];
+                    if (tree[v] < 0) {
+                        tree[v] = root;
+                        parent[v] = u;
+                        parentKey[v] = keys[e];
+                        stack[top++] = v;
+                    }
+                }
+            }
+        }
+        operationsCount += n + treeEdges.length; // rooting the forest
+        
+        // Path-max queries for non-forest edges inside one tree
+        int[] queryStart = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            if (!light[i]) {
+                if (tree[from[i]] != tree[to[i]]) {
+                    light[i] = true;
+                } else {
+                    queryStart[from[i] + 1]++;
+                    queryStart[to[i] + 1]++;
+                }
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            queryStart[v + 1] += queryStart[v];
+        }
+        int[] queryFill = Arrays.copyOf(queryStart, n);
+        int[] queries = new int[queryStart[n]];
+        for (int i = 0; i < m; i++) {
+            if (!light[i]) {
+                queries[queryFill[from[i]]++] = i;
+                queries[queryFill[to[i]]++] = i;
+            }
+        }
+        
+        // Tarjan's offline LCA in reverse preorder (every vertex after its
+        // descendants). A finished vertex is linked under its parent; link and
+        // maxUp form a union-find whose find also yields the heaviest key
+        // between a vertex and its current set root. A query is parked at the
+        // LCA of its endpoints and answered once the LCA is finished, when the
+        // whole path to it is linked.
+        int[] link = new int[n];
+        long[] maxUp = new long[n];
+        boolean[] finished = new boolean[n];
+        int[] bucketHead = new int[n];
+        int[] bucketNext = new int[m];
+        for (int v = 0; v < n; v++) {
+            link[v] = v;
+        }
+        Arrays.fill(bucketHead, -1);
+        for (int k = n - 1; k >= 0; k--) {
+            int u = preorder[k];
+            finished[u] = true;
+            for (int i = queryStart[u]; i < queryStart[u + 1]; i++) {
+                int q = queries[i];
+                int v = from[q] == u ? to[q] : from[q];
+                if (finished[v]) {
+                    int lca = find(v, link, maxUp, stack);
+                    bucketNext[q] = bucketHead[lca];
+                    bucketHead[lca] = q;
+                    operationsCount++; // LCA query
+                }
+            }
+            for (int q = bucketHead[u]; q >= 0; q = bucketNext[q]) {
+                long pathMax = Math.max(maxToRoot(from[q], u, link, maxUp, stack), maxToRoot(to[q], u, link, maxUp, stack));
+                light[q] = keys[q] < pathMax;
+                operationsCount++; // path-max query
+            }
+            if (parent[u] >= 0) {
+                link[u] = parent[u];
+                maxUp[u] = parentKey[u];
+            }
+        }
+        return light;
+    }
+    
+    private static long maxToRoot(int x, int root, int[] link, long[] maxUp, int[] path) {
+        if (x == root) {
+            return Long.MIN_VALUE;
+        }
+        find(x, link, maxUp, path);
+        return maxUp[x];
+    }
+    
+    /**
+     * Root of x's set with path compression; afterwards maxUp of every vertex
+     * on the path is the heaviest key between it and the root.
+     */
+    private static int find(int x, int[] link, long[] maxUp, int[] path) {
+        int root = x;
+        int length = 0;
+        while (link[root] != root) {
+            path[length++] = root;
+            root = link[root];
+        }
+        // path[length - 1] already hangs directly off the root
+        for (int j = length - 2; j >= 0; j--) {
+            int y = path[j];
+            maxUp[y] = Math.max(maxUp[y], maxUp[link[y]]);
+            link[y] = root;
+        }
+        return root;
+    }
+    
+    /**
+     * Contracted graph produced by a Borůvka step; origin maps each edge to
+     * its position in the arrays the enclosing solve() call received.
+     */
+    private static class Contraction {
+        final int vertices;
+        final int[] from;
+        final int[] to;
+        final long[] keys;
+        final int[] origin;
+        int edges;
+        
+        Contraction(int vertices, int capacity) {
+            this.vertices = vertices;
+            this.from = new int[capacity];
+            this.to = new int[capacity];
+            this.keys = new long[capacity];
+            this.origin = new int[capacity];
+        }
+    }
+    
+    private static class IntList {
+        int[] items = new int[16];
+        int size;
+        
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package main.java;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Times the randomized KKT algorithm against the int-indexed Prim and
+ * Kruskal engines and parallel Kruskal on sparse graphs of growing size, and
+ * reports the smallest size at which KKT is the fastest.
+ */
+public class KKTBenchmark {
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final int[] SIZES = {10_000, 50_000, 200_000, 500_000, 1_000_000};
+    private static final int AVERAGE_DEGREE = 8;
+    
+    public static void main(String[] args) {
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        KKTAlgorithm kkt = new KKTAlgorithm();
+        ParallelKruskalAlgorithm parallelKruskal = new ParallelKruskalAlgorithm();
+        
+        Map<String, Function<Graph, MSTResult>> engines = new LinkedHashMap<>();
+        engines.put("Prim", g -> prim.findMST(g, workspace));
+        engines.put("Kruskal", g -> kruskal.findMST(g, workspace));
+        engines.put("Par. Kruskal", parallelKruskal::findMST);
+        engines.put("KKT", kkt::findMST);
+        
+        System.out.println("=".repeat(90));
+        System.out.println("KKT Randomized MST Benchmark (median of " + MEASURED_RUNS + " runs, ms)");
+        System.out.println("=".repeat(90));
+        System.out.printf("%-16s %9s %9s", "Family", "V", "E");
+        for (String name : engines.keySet()) {
+            System.out.printf(" %12s", name);
+        }
+        System.out.println();
+        System.out.println("-".repeat(90));
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        GraphGenerator.GraphFamily[] families = {
+            GraphGenerator.GraphFamily.UNIFORM_RANDOM, GraphGenerator.GraphFamily.BARABASI_ALBERT, GraphGenerator.GraphFamily.GRID
+        };
+        for (GraphGenerator.GraphFamily family : families) {
+            Integer crossover = null;
+            for (int vertices : SIZES) {
+                GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec(family.name().toLowerCase(),
+                    vertices, vertices * AVERAGE_DEGREE / 2, 1_000_000, family, GraphGenerator.WeightDistribution.UNIFORM);
+                Graph graph = generator.generateGraph(spec);
+                System.out.printf("%-16s %9d %9d", spec.getName(), graph.getVertices(), graph.getEdgeCount());
+                
+                long expectedCost = kruskal.findMST(graph, workspace).getTotalCost();
+                String fastest = null;
+                double best = Double.MAX_VALUE;
+                for (Map.Entry<String, Function<Graph, MSTResult>> engine : engines.entrySet()) {
+                    double time = medianTime(engine.getValue(), graph, expectedCost);
+                    System.out.printf(" %12.2f", time);
+                    if (time < best) {
+                        best = time;
+                        fastest = engine.getKey();
+                    }
+                }
+                System.out.println();
+                if (crossover == null && fastest.equals("KKT")) {
+                    crossover = vertices;
+                }
+            }
+            System.out.printf("  -> KKT fastest from V = %s\n", crossover == null ? "(not reached)" : crossover);
+        }
+        
+        System.out.println("=".repeat(90));
+    }
+    
+    private static double medianTime(Function<Graph, MSTResult> engine, Graph graph, long expectedCost) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            engine.apply(graph);
+        }
+        double[] times = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            MSTResult result = engine.apply(graph);
+            if (result.getTotalCost() != expectedCost) {
+                throw new IllegalStateException("MST cost mismatch");
+            }
+            times[i] = result.getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+}
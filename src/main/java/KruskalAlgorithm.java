@@ -6,28 +6,54 @@ public class KruskalAlgorithm {
     private int operationsCount;
     
     public MSTResult findMST(Graph graph) {
+        return findMST(graph, CancellationToken.NONE);
+    }
+    
+    /**
+     * Stops early once the token fires and returns the lightest MST edges
+     * found so far, flagged incomplete. The sort itself is not interruptible.
+     */
+    public MSTResult findMST(Graph graph, CancellationToken token) {
         operationsCount = 0;
         long startTime = System.nanoTime();
         
         List<Edge> mstEdges = new ArrayList<>();
-        int totalCost = 0;
+        long totalCost = 0;
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), graph.getEdgeCount());
         
-        // Sort edges by weight
-        List<Edge> sortedEdges = new ArrayList<>(graph.getEdges());
-        Collections.sort(sortedEdges);
-        operationsCount += sortedEdges.size(); // counting sort operations
+        // Sort edges by weight; equal weights keep input order like a stable sort
+        timer.start(MSTPhase.SORT);
+        int edgeCount = graph.getEdgeCount();
+        long[] sortedEdges = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            sortedEdges[e] = ((long) graph.getEdge(e).getWeight() << 32) | e;
+        }
+        Arrays.sort(sortedEdges);
+        operationsCount += edgeCount; // counting sort operations
         
         // Initialize Union-Find
-        UnionFind uf = new UnionFind(graph.getNodeNames());
+        timer.start(MSTPhase.UNION_FIND);
+        CountingUnionFind uf = new CountingUnionFind(graph.getVertices());
         
-        for (Edge edge : sortedEdges) {
+        boolean complete = true;
+        int edgesScanned = 0;
+        for (long key : sortedEdges) {
+            if (token.shouldStop(edgesScanned)) {
+                complete = false;
+                break;
+            }
+            edgesScanned++;
             operationsCount++; // iterating through edges
             
-            if (!uf.isConnected(edge.getFrom(), edge.getTo())) {
+            int e = (int) key;
+            int from = graph.getEdgeFrom(e);
+            int to = graph.getEdgeTo(e);
+            if (!uf.isConnected(from, to)) {
                 operationsCount++; // find operation
+                Edge edge = graph.getEdge(e);
                 mstEdges.add(edge);
                 totalCost += edge.getWeight();
-                uf.union(edge.getFrom(), edge.getTo());
+                uf.union(from, to);
                 operationsCount++; // union operation
                 
                 if (mstEdges.size() == graph.getVertices() - 1) {
@@ -37,55 +63,296 @@ public class KruskalAlgorithm {
                 operationsCount++; // find operation
             }
         }
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs, complete, edgesScanned);
+    }
+    
+    /**
+     * Kruskal on the int path: sorts packed (weight, edge id) keys and uses the
+     * workspace's union-find, so repeated calls on one thread allocate only
+     * the result.
+     */
+    public MSTResult findMST(Graph graph, SolverWorkspace workspace) {
+        return findMST(graph, workspace, CancellationToken.NONE);
+    }
+    
+    /**
+     * Workspace variant of findMST(Graph, CancellationToken).
+     */
+    public MSTResult findMST(Graph graph, SolverWorkspace workspace, CancellationToken token) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        long totalCost = 0;
+        int mstSize = 0;
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), graph.getEdgeCount());
+        
+        timer.start(MSTPhase.BUILD);
+        workspace.load(graph);
+        int vertices = workspace.getVertices();
+        int edgeCount = workspace.getEdgeCount();
+        
+        // Sort edges by weight (ties by edge index)
+        timer.start(MSTPhase.SORT);
+        long[] sorted = workspace.getSortKeys();
+        for (int e = 0; e < edgeCount; e++) {
+            sorted[e] = workspace.edgeKey(e);
+        }
+        Arrays.sort(sorted, 0, edgeCount);
+        operationsCount += edgeCount; // counting sort operations
+        
+        timer.start(MSTPhase.UNION_FIND);
+        UnionFind uf = workspace.getUnionFind();
+        operationsCount += vertices; // initialization
+        int[] selected = workspace.getSelectedEdges();
+        
+        boolean complete = true;
+        int i = 0;
+        for (; i < edgeCount && mstSize < vertices - 1; i++) {
+            if (token.shouldStop(i)) {
+                complete = false;
+                break;
+            }
+            operationsCount++; // iterating through edges
+            int e = (int) sorted[i];
+            operationsCount++; // find operation
+            if (uf.union(workspace.getFrom(e), workspace.getTo(e))) {
+                selected[mstSize++] = e;
+                totalCost += workspace.getWeight(e);
+                operationsCount++; // union operation
+            }
+        }
+        List<Edge> mstEdges = workspace.collectSelected(mstSize);
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs, complete, i);
+    }
+    
+    /**
+     * Lazy variant of findMST: MST edges are produced on demand in
+     * nondecreasing weight order, for consumers that stop early.
+     */
+    public MSTEdgeIterator iterateMST(Graph graph) {
+        return new MSTEdgeIterator(graph);
+    }
+    
+    /**
+     * Kruskal on long weights; ties are broken by edge index.
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    public LongMSTResult findMST(LongWeightGraph graph, CancellationToken token) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        int edgeCount = graph.getEdgeCount();
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), edgeCount);
+        
+        timer.start(MSTPhase.SORT);
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            keys[e] = graph.getWeight(e);
+        }
+        int[] order = sortByKey(keys);
+        operationsCount += edgeCount; // counting sort operations
+        
+        timer.start(MSTPhase.UNION_FIND);
+        UnionFind uf = new UnionFind(graph.getVertices());
+        operationsCount += graph.getVertices(); // initialization
+        int[] selected = new int[Math.max(0, graph.getVertices() - 1)];
+        int mstSize = 0;
+        long totalCost = 0;
+        boolean complete = true;
+        int i = 0;
+        for (; i < edgeCount && mstSize < selected.length; i++) {
+            if (token.shouldStop(i)) {
+                complete = false;
+                break;
+            }
+            operationsCount++; // iterating through edges
+            int e = order[i];
+            operationsCount++; // find operation
+            if (uf.union(graph.getEdgeFrom(e), graph.getEdgeTo(e))) {
+                selected[mstSize++] = e;
+                totalCost = Math.addExact(totalCost, graph.getWeight(e));
+                operationsCount++; // union operation
+            }
+        }
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new LongMSTResult(Arrays.copyOf(selected, mstSize), totalCost, operationsCount, executionTimeMs,
+            phaseTimesMs, complete, i);
+    }
+    
+    /**
+     * Kruskal on double weights, sorted by DoubleWeightGraph.orderedBits;
+     * ties are broken by edge index.
+     */
+    public DoubleMSTResult findMST(DoubleWeightGraph graph, CancellationToken token) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        int edgeCount = graph.getEdgeCount();
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), edgeCount);
+        
+        timer.start(MSTPhase.SORT);
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            keys[e] = DoubleWeightGraph.orderedBits(graph.getWeight(e));
+        }
+        int[] order = sortByKey(keys);
+        operationsCount += edgeCount; // counting sort operations
+        
+        timer.start(MSTPhase.UNION_FIND);
+        UnionFind uf = new UnionFind(graph.getVertices());
+        operationsCount += graph.getVertices(); // initialization
+        int[] selected = new int[Math.max(0, graph.getVertices() - 1)];
+        int mstSize = 0;
+        boolean complete = true;
+        int i = 0;
+        for (; i < edgeCount && mstSize < selected.length; i++) {
+            if (token.shouldStop(i)) {
+                complete = false;
+                break;
+            }
+            operationsCount++; // iterating through edges
+            int e = order[i];
+            operationsCount++; // find operation
+            if (uf.union(graph.getEdgeFrom(e), graph.getEdgeTo(e))) {
+                selected[mstSize++] = e;
+                operationsCount++; // union operation
+            }
+        }
+        selected = Arrays.copyOf(selected, mstSize);
+        double totalCost = DoubleMSTResult.totalCost(graph, selected);
+        double[] phaseTimesMs = timer.getTimesMs();
         
         long endTime = System.nanoTime();
         double executionTimeMs = (endTime - startTime) / 1_000_000.0;
         
-        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+        return new DoubleMSTResult(selected, totalCost, operationsCount, executionTimeMs, phaseTimesMs, complete, i);
+    }
+    
+    /**
+     * Edge indices ordered by key, ties by index. When the keys span less than
+     * 2^31 they are packed with the index into one long and sorted like the
+     * int path; wider ranges go through a stable LSD radix sort on the index
+     * array, skipping byte positions that are the same in every key.
+     */
+    static int[] sortByKey(long[] keys) {
+        int n = keys.length;
+        int[] order = new int[n];
+        if (n == 0) {
+            return order;
+        }
+        long min = keys[0];
+        long max = keys[0];
+        for (long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        if (Long.compareUnsigned(max - min, Integer.MAX_VALUE) <= 0) {
+            long[] packed = new long[n];
+            for (int e = 0; e < n; e++) {
+                packed[e] = ((keys[e] - min) << 32) | e;
+            }
+            Arrays.sort(packed);
+            for (int i = 0; i < n; i++) {
+                order[i] = (int) packed[i];
+            }
+            return order;
+        }
+        
+        int[] buffer = new int[n];
+        for (int e = 0; e < n; e++) {
+            order[e] = e;
+        }
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[radixDigit(key, shift) + 1]++;
+            }
+            boolean uniform = false;
+            for (int d = 1; d <= 256 && !uniform; d++) {
+                uniform = counts[d] == n;
+            }
+            if (uniform) {
+                continue;
+            }
+            for (int d = 0; d < 256; d++) {
+                counts[d + 1] += counts[d];
+            }
+            for (int i = 0; i < n; i++) {
+                int e = order[i];
+                buffer[counts[radixDigit(keys[e], shift)]++] = e;
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
     }
     
-    private class UnionFind {
-        private final Map<String, String> parent;
-        private final Map<String, Integer> rank;
-        
-        public UnionFind(List<String> nodes) {
-            parent = new HashMap<>();
-            rank = new HashMap<>();
-            for (String node : nodes) {
-                parent.put(node, node);
-                rank.put(node, 0);
+    /**
+     * Byte of the key at shift, with the sign bit flipped so signed keys sort
+     * as unsigned digits.
+     */
+    private static int radixDigit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+    
+    /**
+     * Union-find for the default path that adds every step to operationsCount.
+     */
+    private class CountingUnionFind {
+        private final int[] parent;
+        private final int[] rank;
+        
+        public CountingUnionFind(int size) {
+            parent = new int[size];
+            rank = new int[size];
+            for (int node = 0; node < size; node++) {
+                parent[node] = node;
                 operationsCount++; // initialization
             }
         }
         
-        public String find(String node) {
-            if (!parent.get(node).equals(node)) {
-                parent.put(node, find(parent.get(node))); // path compression
+        public int find(int node) {
+            if (parent[node] != node) {
+                parent[node] = find(parent[node]); // path compression
                 operationsCount++; // find operation
             }
             operationsCount++; // find operation
-            return parent.get(node);
+            return parent[node];
         }
         
-        public void union(String node1, String node2) {
-            String root1 = find(node1);
-            String root2 = find(node2);
+        public void union(int node1, int node2) {
+            int root1 = find(node1);
+            int root2 = find(node2);
             
-            if (!root1.equals(root2)) {
-                if (rank.get(root1) < rank.get(root2)) {
-                    parent.put(root1, root2);
-                } else if (rank.get(root1) > rank.get(root2)) {
-                    parent.put(root2, root1);
+            if (root1 != root2) {
+                if (rank[root1] < rank[root2]) {
+                    parent[root1] = root2;
+                } else if (rank[root1] > rank[root2]) {
+                    parent[root2] = root1;
                 } else {
-                    parent.put(root2, root1);
-                    rank.put(root1, rank.get(root1) + 1);
+                    parent[root2] = root1;
+                    rank[root1]++;
                 }
                 operationsCount++; // union operation
             }
         }
         
-        public boolean isConnected(String node1, String node2) {
-            return find(node1).equals(find(node2));
+        public boolean isConnected(int node1, int node2) {
+            return find(node1) == find(node2);
         }
     }
 }
@@ -0,0 +1,70 @@
+package main.java;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts MSTWorker instances as separate JVM processes on this machine, on
+ * the current classpath, for tests and benchmarks of DistributedMST.
+ */
+public class LocalWorkerCluster implements AutoCloseable {
+    private final List<Process> processes = new ArrayList<>();
+    private final List<InetSocketAddress> addresses = new ArrayList<>();
+    
+    public LocalWorkerCluster(int workers, String maxHeap) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+        try {
+            for (int i = 0; i < workers; i++) {
+                ProcessBuilder builder = new ProcessBuilder(java, "-Xmx" + maxHeap, "-cp", classPath,
+                    MSTWorker.class.getName(), "0");
+                builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+                Process process = builder.start();
+                processes.add(process);
+                addresses.add(new InetSocketAddress("127.0.0.1", awaitPort(process)));
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+    
+    public List<InetSocketAddress> getAddresses() {
+        return addresses;
+    }
+    
+    /**
+     * Stops every worker process.
+     */
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+    
+    private static int awaitPort(Process process) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(MSTWorker.READY_PREFIX)) {
+                return Integer.parseInt(line.substring(MSTWorker.READY_PREFIX.length()).trim());
+            }
+        }
+        throw new IOException("Worker process exited before it was ready");
+    }
+}
@@ -0,0 +1,61 @@
+package main.java;
+
+/**
+ * MSTResult counterpart for LongWeightGraph: tree edges are indices into the
+ * graph's edge arrays rather than Edge objects.
+ */
+public class LongMSTResult {
+    private final int[] mstEdges;
+    private final long totalCost;
+    private final int operationsCount;
+    private final double executionTimeMs;
+    private final double[] phaseTimesMs;
+    private final boolean complete;
+    private final int edgesScanned;
+    
+    public LongMSTResult(int[] mstEdges, long totalCost, int operationsCount, double executionTimeMs,
+                         double[] phaseTimesMs, boolean complete, int edgesScanned) {
+        this.mstEdges = mstEdges;
+        this.totalCost = totalCost;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+        this.phaseTimesMs = phaseTimesMs;
+        this.complete = complete;
+        this.edgesScanned = edgesScanned;
+    }
+    
+    /**
+     * Edge indices of the tree (forest), in the order the solver chose them.
+     */
+    public int[] getMstEdges() {
+        return mstEdges;
+    }
+    
+    public long getTotalCost() {
+        return totalCost;
+    }
+    
+    public int getOperationsCount() {
+        return operationsCount;
+    }
+    
+    public double getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+    
+    public boolean hasPhaseTimes() {
+        return phaseTimesMs != null;
+    }
+    
+    public double getPhaseTimeMs(MSTPhase phase) {
+        return phaseTimesMs == null ? 0 : phaseTimesMs[phase.ordinal()];
+    }
+    
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    public int getEdgesScanned() {
+        return edgesScanned;
+    }
+}
@@ -0,0 +1,87 @@
+package main.java;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over primitive long keys. Used with IndexedGraph.edgeKey so
+ * heap entries need no boxing and no Comparator.
+ */
+public class LongMinHeap {
+    private long[] heap;
+    private int size;
+    
+    public LongMinHeap() {
+        this(16);
+    }
+    
+    public LongMinHeap(int initialCapacity) {
+        heap = new long[Math.max(1, initialCapacity)];
+    }
+    
+    /**
+     * Builds a heap over the first size keys in O(size) (bottom-up heapify).
+     * The array is taken over, not copied.
+     */
+    public LongMinHeap(long[] keys, int size) {
+        heap = keys.length == 0 ? new long[1] : keys;
+        this.size = size;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+    
+    public void offer(long key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+    
+    public long peek() {
+        return heap[0];
+    }
+    
+    public long poll() {
+        long min = heap[0];
+        long last = heap[--size];
+        siftDown(0, last);
+        return min;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public void clear() {
+        size = 0;
+    }
+    
+    private void siftDown(int i, long key) {
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
@@ -0,0 +1,81 @@
+package main.java;
+
+/**
+ * Undirected graph with long edge weights, for costs that do not fit an int.
+ * Edges are kept as parallel primitive arrays (endpoint ids and weights)
+ * instead of Edge objects, and solver results refer to edges by index.
+ */
+public class LongWeightGraph {
+    private final NodeDictionary dictionary;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final long[] weights;
+    
+    /**
+     * The arrays are used as given, not copied: edge e joins dictionary ids
+     * edgeFrom[e] and edgeTo[e] with weight weights[e].
+     */
+    public LongWeightGraph(NodeDictionary dictionary, int[] edgeFrom, int[] edgeTo, long[] weights) {
+        if (edgeFrom.length != weights.length || edgeTo.length != weights.length) {
+            throw new IllegalArgumentException("Endpoint and weight arrays must have one entry per edge");
+        }
+        for (int e = 0; e < weights.length; e++) {
+            checkVertex(dictionary, edgeFrom[e]);
+            checkVertex(dictionary, edgeTo[e]);
+        }
+        this.dictionary = dictionary;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.weights = weights;
+    }
+    
+    /**
+     * Widens an int-weighted graph; vertex ids and edge indices are kept.
+     */
+    public static LongWeightGraph of(Graph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        long[] weights = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            weights[e] = graph.getEdge(e).getWeight();
+        }
+        return new LongWeightGraph(graph.getDictionary(), from, to, weights);
+    }
+    
+    static void checkVertex(NodeDictionary dictionary, int id) {
+        if (id < 0 || id >= dictionary.size()) {
+            throw new IllegalArgumentException("Edge endpoint is not a node: " + id);
+        }
+    }
+    
+    public int getVertices() {
+        return dictionary.size();
+    }
+    
+    public int getEdgeCount() {
+        return weights.length;
+    }
+    
+    public int getEdgeFrom(int index) {
+        return edgeFrom[index];
+    }
+    
+    public int getEdgeTo(int index) {
+        return edgeTo[index];
+    }
+    
+    public long getWeight(int index) {
+        return weights[index];
+    }
+    
+    public String getNodeName(int index) {
+        return dictionary.getName(index);
+    }
+    
+    public NodeDictionary getDictionary() {
+        return dictionary;
+    }
+}
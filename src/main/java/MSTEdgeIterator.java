@@ -0,0 +1,108 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Pull-based Kruskal: yields MST edges in nondecreasing weight order, one at a
+ * time. Edges are heapified in O(E) up front and popped only as consumers ask
+ * for more tree edges, so taking the lightest k edges or stopping at a cost
+ * budget costs O(E + p log E) for the p edges actually examined instead of a
+ * full sort.
+ */
+public class MSTEdgeIterator implements Iterator<Edge> {
+    private final IndexedGraph graph;
+    private final LongMinHeap heap;
+    private final UnionFind uf;
+    private Edge nextEdge;
+    private int edgesReturned;
+    private long cumulativeCost;
+    private int operationsCount;
+    
+    public MSTEdgeIterator(Graph graph) {
+        this.graph = IndexedGraph.of(graph);
+        int edgeCount = this.graph.getEdgeCount();
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            keys[e] = this.graph.edgeKey(e);
+        }
+        this.heap = new LongMinHeap(keys, edgeCount);
+        this.uf = new UnionFind(this.graph.getVertices());
+        operationsCount += edgeCount; // heapify
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (nextEdge != null) {
+            return true;
+        }
+        // A spanning forest is complete once a single component is left
+        while (!heap.isEmpty() && uf.getComponents() > 1) {
+            int e = (int) heap.poll();
+            operationsCount++; // polling from heap
+            if (uf.union(graph.getFrom(e), graph.getTo(e))) {
+                operationsCount++; // union operation
+                nextEdge = graph.getEdge(e);
+                return true;
+            }
+            operationsCount++; // find operation
+        }
+        return false;
+    }
+    
+    @Override
+    public Edge next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Edge edge = nextEdge;
+        nextEdge = null;
+        edgesReturned++;
+        cumulativeCost += edge.getWeight();
+        return edge;
+    }
+    
+    /**
+     * Weight of the next MST edge without consuming it.
+     */
+    public int peekWeight() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return nextEdge.getWeight();
+    }
+    
+    /**
+     * Consumes up to k further MST edges.
+     */
+    public List<Edge> take(int k) {
+        List<Edge> edges = new ArrayList<>();
+        while (edges.size() < k && hasNext()) {
+            edges.add(next());
+        }
+        return edges;
+    }
+    
+    /**
+     * Consumes MST edges while the cumulative cost stays within budget. The
+     * first edge that would exceed the budget is left unconsumed.
+     */
+    public List<Edge> takeWithinBudget(long budget) {
+        List<Edge> edges = new ArrayList<>();
+        while (hasNext() && cumulativeCost + nextEdge.getWeight() <= budget) {
+            edges.add(next());
+        }
+        return edges;
+    }
+    
+    public int getEdgesReturned() {
+        return edgesReturned;
+    }
+    
+    public long getCumulativeCost() {
+        return cumulativeCost;
+    }
+    
+    public int getOperationsCount() {
+        return operationsCount;
+    }
+}
@@ -0,0 +1,30 @@
+package main.java;
+
+/**
+ * Phases of the MST pipeline, reported in MSTResult and as MSTPhaseEvent.
+ * Solver phases are timed as whole stretches of code, so HEAP covers Prim's
+ * main loop (dominated by queue work) and UNION_FIND covers Kruskal's scan
+ * over the sorted edges.
+ */
+public enum MSTPhase {
+    PARSE("parse"),
+    BUILD("build"),
+    PREPROCESS("preprocess"),
+    SORT("sort"),
+    HEAP("heap"),
+    UNION_FIND("union_find"),
+    SERIALIZE("serialize");
+    
+    private final String label;
+    
+    MSTPhase(String label) {
+        this.label = label;
+    }
+    
+    /**
+     * Name used in JSON output and JFR events.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
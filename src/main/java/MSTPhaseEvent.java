@@ -0,0 +1,27 @@
+package main.java;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for one MST pipeline phase. Recorded when a
+ * flight recording is running (e.g. -XX:StartFlightRecording) and costs
+ * next to nothing otherwise.
+ */
+@Name("mst.Phase")
+@Label("MST Phase")
+@Category("MST")
+@Description("One phase of MST processing for a graph")
+@StackTrace(false)
+public class MSTPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+    
+    @Label("Graph Id")
+    String graphId;
+    
+    @Label("Vertices")
+    int vertices;
+    
+    @Label("Edges")
+    int edges;
+}
@@ -1,22 +1,43 @@
 package main.java;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
 
 public class MSTProcessor {
+    private static final int QUEUE_CAPACITY = 4; // graphs in flight between two stages
+    private static final JsonObject END_OF_RESULTS = new JsonObject();
     
     public static void main(String[] args) {
-        if (args.length < 2) {
-            System.err.println("Usage: java MSTProcessor <input_file> <output_file>");
+        String usage = "Usage: java MSTProcessor <input_file> <output_file> [--deadline-ms <ms>] [--reorder bfs|rcm|degree]";
+        if (args.length < 2 || args.length % 2 != 0) {
+            System.err.println(usage);
             System.exit(1);
         }
         
         String inputFile = args[0];
         String outputFile = args[1];
+        long deadlineMs = 0;
+        VertexReordering.Strategy reorder = null;
+        for (int i = 2; i < args.length; i += 2) {
+            if (args[i].equals("--deadline-ms")) {
+                deadlineMs = Long.parseLong(args[i + 1]);
+            } else if (args[i].equals("--reorder")) {
+                reorder = VertexReordering.Strategy.fromLabel(args[i + 1]);
+            } else {
+                System.err.println(usage);
+                System.exit(1);
+            }
+        }
         
         try {
-            processGraphs(inputFile, outputFile);
+            processGraphs(inputFile, outputFile, deadlineMs, reorder);
             System.out.println("Processing completed successfully!");
             System.out.println("Output written to: " + outputFile);
         } catch (Exception e) {
@@ -27,50 +48,369 @@ public class MSTProcessor {
     }
     
     public static void processGraphs(String inputFile, String outputFile) throws IOException {
-        // Read input JSON
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        InputData inputData = gson.fromJson(new FileReader(inputFile), InputData.class);
-        
-        JsonObject output = new JsonObject();
-        JsonArray results = new JsonArray();
-        
-        for (GraphData graphData : inputData.getGraphs()) {
-            // Convert to Graph object
-            List<Edge> edges = new ArrayList<>();
-            for (GraphData.EdgeData edgeData : graphData.getEdges()) {
-                edges.add(new Edge(edgeData.getFrom(), edgeData.getTo(), edgeData.getWeight()));
-            }
-            Graph graph = new Graph(graphData.getNodes(), edges);
-            
-            // Process with both algorithms
-            JsonObject result = new JsonObject();
-            result.addProperty("graph_id", graphData.getId());
-            
-            // Input stats
-            JsonObject inputStats = new JsonObject();
-            inputStats.addProperty("vertices", graphData.getNodes().size());
-            inputStats.addProperty("edges", graphData.getEdges().size());
-            result.add("input_stats", inputStats);
-            
-            // Run Prim's algorithm
+        processGraphs(inputFile, outputFile, 0);
+    }
+    
+    /**
+     * Runs the batch as a three-stage pipeline connected by bounded queues:
+     * a reader thread decodes and builds graph N+1 while a solver thread
+     * solves graph N and a writer thread serializes graph N-1, so the batch
+     * takes about as long as its slowest stage. Input and output are
+     * streamed, so only a few graphs are held in memory at a time. Results
+     * stay in input order. Per-stage metrics are written under "pipeline".
+     *
+     * @param deadlineMs time limit for each solver run on a graph; a solver
+     *                   that hits it reports its partial forest with
+     *                   "complete": false. 0 means no limit.
+     */
+    public static void processGraphs(String inputFile, String outputFile, long deadlineMs) throws IOException {
+        processGraphs(inputFile, outputFile, deadlineMs, null);
+    }
+    
+    /**
+     * Edge weights are read as int, long or double per graph, by the widest
+     * weight in it; long and double graphs are solved on their own primitive
+     * paths without preprocessing.
+     *
+     * @param reorder vertex relabeling applied by the reader before solving,
+     *                for cache locality; null keeps the input order. Results
+     *                use the original names either way. Only int-weighted
+     *                graphs are reordered.
+     */
+    public static void processGraphs(String inputFile, String outputFile, long deadlineMs,
+                                     VertexReordering.Strategy reorder) throws IOException {
+        Gson gson = new GsonBuilder()
+            .registerTypeAdapter(GraphData.EdgeData.class, new GraphData.EdgeDataAdapter())
+            .create();
+        long startTime = System.nanoTime();
+        BlockingQueue<GraphJob> graphs = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<JsonObject> results = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        StageMetrics readerMetrics = new StageMetrics("reader");
+        StageMetrics solverMetrics = new StageMetrics("solver");
+        StageMetrics writerMetrics = new StageMetrics("writer");
+        PhaseTimer batchTimer = new PhaseTimer(0, 0);
+        
+        List<Thread> stages = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        stage("mst-reader", stages, failure, () -> {
+            readGraphs(gson, inputFile, reorder, graphs, readerMetrics, batchTimer);
+            graphs.put(GraphJob.END);
+        });
+        
+        stage("mst-solver", stages, failure, () -> {
+            // Solver arrays are reused from graph to graph
+            SolverWorkspace workspace = SolverWorkspace.forCurrentThread();
             PrimAlgorithm prim = new PrimAlgorithm();
-            MSTResult primResult = prim.findMST(graph);
-            result.add("prim", createAlgorithmResult(primResult));
-            
-            // Run Kruskal's algorithm
             KruskalAlgorithm kruskal = new KruskalAlgorithm();
-            MSTResult kruskalResult = kruskal.findMST(graph);
-            result.add("kruskal", createAlgorithmResult(kruskalResult));
-            
-            results.add(result);
+            GraphJob job;
+            while ((job = solverMetrics.take(graphs)) != GraphJob.END) {
+                long start = System.nanoTime();
+                JsonObject result;
+                if (job.timer == null) {
+                    result = processPointSet(job.data);
+                } else if (job.graph != null) {
+                    result = processGraph(job, workspace, prim, kruskal, deadlineMs);
+                } else {
+                    result = processWeightedGraph(job, prim, kruskal, deadlineMs);
+                }
+                solverMetrics.recordItem(System.nanoTime() - start);
+                solverMetrics.put(results, result);
+            }
+            PhaseTimer.setGraphId(null);
+            results.put(END_OF_RESULTS);
+        });
+        
+        stage("mst-writer", stages, failure, () -> {
+            try (JsonWriter writer = new JsonWriter(new BufferedWriter(new FileWriter(outputFile)))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+                writer.name("results");
+                writer.beginArray();
+                JsonObject result;
+                while ((result = writerMetrics.take(results)) != END_OF_RESULTS) {
+                    long start = System.nanoTime();
+                    gson.toJson(result, writer);
+                    writerMetrics.recordItem(System.nanoTime() - start);
+                }
+                writer.endArray();
+                
+                // The reader has finished once the end marker got through the solver
+                writer.name("parse_time_ms").value(round(batchTimer.getTimesMs()[MSTPhase.PARSE.ordinal()]));
+                writer.name("pipeline");
+                gson.toJson(createPipelineStats((System.nanoTime() - startTime) / 1_000_000.0,
+                    readerMetrics, solverMetrics, writerMetrics), writer);
+                writer.endObject();
+            }
+        });
+        
+        stages.forEach(Thread::start);
+        try {
+            for (Thread thread : stages) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            stages.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while processing graphs");
+        }
+        
+        Throwable error = failure.get();
+        if (error instanceof IOException) {
+            throw (IOException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        } else if (error != null) {
+            throw new IllegalStateException("MST pipeline failed", error);
+        }
+    }
+    
+    /**
+     * Reader stage: decodes one graph at a time from the "graphs" array and
+     * builds its Graph before handing it on.
+     */
+    private static void readGraphs(Gson gson, String inputFile, VertexReordering.Strategy reorder,
+                                   BlockingQueue<GraphJob> graphs, StageMetrics metrics,
+                                   PhaseTimer batchTimer) throws IOException, InterruptedException {
+        try (JsonReader reader = new JsonReader(new BufferedReader(new FileReader(inputFile)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("graphs")) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    long start = System.nanoTime();
+                    batchTimer.start(MSTPhase.PARSE);
+                    GraphData graphData = gson.fromJson(reader, GraphData.class);
+                    batchTimer.stop();
+                    
+                    GraphJob job = new GraphJob(graphData);
+                    if (graphData.getPoints() == null) {
+                        PhaseTimer.setGraphId(String.valueOf(graphData.getId()));
+                        job.timer = new PhaseTimer(graphData.getNodes().size(), graphData.getEdges().size());
+                        
+                        // Convert to Graph object, resolving each name to its id once
+                        job.timer.start(MSTPhase.BUILD);
+                        WeightType weightType = graphData.getWeightType();
+                        if (weightType == WeightType.LONG) {
+                            job.longGraph = buildLongGraph(graphData);
+                        } else if (weightType == WeightType.DOUBLE) {
+                            job.doubleGraph = buildDoubleGraph(graphData);
+                        } else {
+                            job.graph = buildGraph(graphData);
+                        }
+                        if (reorder != null && job.graph != null) {
+                            job.timer.start(MSTPhase.PREPROCESS);
+                            job.graph = VertexReordering.reorder(job.graph, reorder);
+                            job.reorder = reorder;
+                        }
+                        job.timer.stop();
+                        PhaseTimer.setGraphId(null);
+                    }
+                    metrics.recordItem(System.nanoTime() - start);
+                    metrics.put(graphs, job);
+                }
+                reader.endArray();
+            }
+            reader.endObject();
         }
+    }
+    
+    /**
+     * Solver stage for one edge-list graph: preprocessing, both solvers, and
+     * the result object.
+     */
+    private static JsonObject processGraph(GraphJob job, SolverWorkspace workspace, PrimAlgorithm prim,
+                                           KruskalAlgorithm kruskal, long deadlineMs) {
+        GraphData graphData = job.data;
+        PhaseTimer.setGraphId(String.valueOf(graphData.getId()));
+        
+        // Drop self-loops and parallel edges, contract forced leaf edges
+        PreprocessedGraph preprocessed = new GraphPreprocessor().preprocess(job.graph);
+        Graph kernel = preprocessed.getKernel();
+        
+        // Process with both algorithms
+        JsonObject result = new JsonObject();
+        result.addProperty("graph_id", graphData.getId());
+        
+        // Input stats
+        JsonObject inputStats = new JsonObject();
+        inputStats.addProperty("vertices", graphData.getNodes().size());
+        inputStats.addProperty("edges", graphData.getEdges().size());
+        inputStats.addProperty("weight_type", WeightType.INT.getLabel());
+        result.add("input_stats", inputStats);
+        JsonObject preprocessing = createPreprocessingStats(preprocessed);
+        if (job.reorder != null) {
+            preprocessing.addProperty("vertex_order", job.reorder.getLabel());
+        }
+        result.add("preprocessing", preprocessing);
+        
+        // Run Prim's algorithm
+        MSTResult primResult = preprocessed.expand(prim.findMST(kernel, workspace, deadline(deadlineMs)));
         
-        output.add("results", results);
+        // Run Kruskal's algorithm
+        MSTResult kruskalResult = preprocessed.expand(kruskal.findMST(kernel, workspace, deadline(deadlineMs)));
         
-        // Write output JSON
-        try (FileWriter writer = new FileWriter(outputFile)) {
-            gson.toJson(output, writer);
+        job.timer.start(MSTPhase.SERIALIZE);
+        result.add("prim", createAlgorithmResult(primResult));
+        result.add("kruskal", createAlgorithmResult(kruskalResult));
+        double[] graphPhases = job.timer.getTimesMs();
+        result.add("phase_times_ms", createPhaseTimes(graphPhases));
+        return result;
+    }
+    
+    /**
+     * Solver stage for a long- or double-weighted graph: both solvers on the
+     * matching primitive path. GraphPreprocessor works on int graphs only,
+     * so there is no preprocessing block.
+     */
+    private static JsonObject processWeightedGraph(GraphJob job, PrimAlgorithm prim, KruskalAlgorithm kruskal,
+                                                   long deadlineMs) {
+        GraphData graphData = job.data;
+        PhaseTimer.setGraphId(String.valueOf(graphData.getId()));
+        
+        JsonObject result = new JsonObject();
+        result.addProperty("graph_id", graphData.getId());
+        
+        JsonObject inputStats = new JsonObject();
+        inputStats.addProperty("vertices", graphData.getNodes().size());
+        inputStats.addProperty("edges", graphData.getEdges().size());
+        inputStats.addProperty("weight_type", graphData.getWeightType().getLabel());
+        result.add("input_stats", inputStats);
+        
+        if (job.longGraph != null) {
+            LongMSTResult primResult = prim.findMST(job.longGraph, deadline(deadlineMs));
+            LongMSTResult kruskalResult = kruskal.findMST(job.longGraph, deadline(deadlineMs));
+            job.timer.start(MSTPhase.SERIALIZE);
+            result.add("prim", createAlgorithmResult(primResult, job.longGraph));
+            result.add("kruskal", createAlgorithmResult(kruskalResult, job.longGraph));
+        } else {
+            DoubleMSTResult primResult = prim.findMST(job.doubleGraph, deadline(deadlineMs));
+            DoubleMSTResult kruskalResult = kruskal.findMST(job.doubleGraph, deadline(deadlineMs));
+            job.timer.start(MSTPhase.SERIALIZE);
+            result.add("prim", createAlgorithmResult(primResult, job.doubleGraph));
+            result.add("kruskal", createAlgorithmResult(kruskalResult, job.doubleGraph));
         }
+        result.add("phase_times_ms", createPhaseTimes(job.timer.getTimesMs()));
+        return result;
+    }
+    
+    /**
+     * Adds a pipeline stage thread for the caller to start. The first failure
+     * in any stage is recorded and interrupts the other stages, so none is
+     * left blocked on a queue; the end marker is only sent on success.
+     */
+    private static void stage(String name, List<Thread> stages, AtomicReference<Throwable> failure, StageBody body) {
+        Thread thread = new Thread(() -> {
+            try {
+                body.run();
+            } catch (Throwable e) {
+                if (failure.compareAndSet(null, e)) {
+                    stages.forEach(Thread::interrupt);
+                }
+            }
+        }, name);
+        thread.setDaemon(true);
+        stages.add(thread);
+    }
+    
+    /**
+     * Interns the node names and resolves every edge endpoint to its id in
+     * one pass; the Edges share the interned name instances.
+     */
+    static Graph buildGraph(GraphData graphData) {
+        NodeDictionary dictionary = new NodeDictionary(graphData.getNodes());
+        List<GraphData.EdgeData> edgeData = graphData.getEdges();
+        List<Edge> edges = new ArrayList<>(edgeData.size());
+        int[] from = new int[edgeData.size()];
+        int[] to = new int[edgeData.size()];
+        for (int e = 0; e < edgeData.size(); e++) {
+            GraphData.EdgeData data = edgeData.get(e);
+            resolveEndpoints(dictionary, data, from, to, e);
+            edges.add(new Edge(dictionary.getName(from[e]), dictionary.getName(to[e]), data.getWeight()));
+        }
+        return new Graph(dictionary, edges, from, to);
+    }
+    
+    static LongWeightGraph buildLongGraph(GraphData graphData) {
+        NodeDictionary dictionary = new NodeDictionary(graphData.getNodes());
+        List<GraphData.EdgeData> edgeData = graphData.getEdges();
+        int[] from = new int[edgeData.size()];
+        int[] to = new int[edgeData.size()];
+        long[] weights = new long[edgeData.size()];
+        for (int e = 0; e < edgeData.size(); e++) {
+            GraphData.EdgeData data = edgeData.get(e);
+            resolveEndpoints(dictionary, data, from, to, e);
+            weights[e] = data.getLongWeight();
+        }
+        return new LongWeightGraph(dictionary, from, to, weights);
+    }
+    
+    static DoubleWeightGraph buildDoubleGraph(GraphData graphData) {
+        NodeDictionary dictionary = new NodeDictionary(graphData.getNodes());
+        List<GraphData.EdgeData> edgeData = graphData.getEdges();
+        int[] from = new int[edgeData.size()];
+        int[] to = new int[edgeData.size()];
+        double[] weights = new double[edgeData.size()];
+        for (int e = 0; e < edgeData.size(); e++) {
+            GraphData.EdgeData data = edgeData.get(e);
+            resolveEndpoints(dictionary, data, from, to, e);
+            weights[e] = data.getDoubleWeight();
+        }
+        return new DoubleWeightGraph(dictionary, from, to, weights);
+    }
+    
+    private static void resolveEndpoints(NodeDictionary dictionary, GraphData.EdgeData data, int[] from, int[] to, int e) {
+        from[e] = dictionary.lookup(data.getFrom());
+        to[e] = dictionary.lookup(data.getTo());
+        if (from[e] < 0 || to[e] < 0) {
+            throw new IllegalArgumentException("Edge endpoint is not a node: " + data.getFrom() + " - " + data.getTo());
+        }
+    }
+    
+    /**
+     * Point-set input: the Euclidean MST is computed directly from the
+     * coordinates, without generating the complete graph.
+     */
+    private static JsonObject processPointSet(GraphData graphData) {
+        PointSet points = PointSet.fromPoints(graphData.getPoints(), graphData.getNodes());
+        
+        JsonObject result = new JsonObject();
+        result.addProperty("graph_id", graphData.getId());
+        
+        JsonObject inputStats = new JsonObject();
+        inputStats.addProperty("points", points.size());
+        inputStats.addProperty("dimensions", points.getDimensions());
+        result.add("input_stats", inputStats);
+        
+        EuclideanMST euclidean = new EuclideanMST();
+        MSTResult euclideanResult = euclidean.findMST(points);
+        JsonObject euclideanJson = createAlgorithmResult(euclideanResult);
+        euclideanJson.addProperty("total_length", euclidean.getTotalLength());
+        result.add("euclidean", euclideanJson);
+        
+        return result;
+    }
+    
+    private static CancellationToken deadline(long deadlineMs) {
+        return deadlineMs > 0 ? CancellationToken.withTimeout(deadlineMs) : CancellationToken.NONE;
+    }
+    
+    private static JsonObject createPreprocessingStats(PreprocessedGraph preprocessed) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("self_loops_removed", preprocessed.getSelfLoopsRemoved());
+        obj.addProperty("parallel_edges_removed", preprocessed.getParallelEdgesRemoved());
+        obj.addProperty("leaves_contracted", preprocessed.getLeavesContracted());
+        obj.addProperty("kernel_vertices", preprocessed.getKernel().getVertices());
+        obj.addProperty("kernel_edges", preprocessed.getKernel().getEdgeCount());
+        obj.addProperty("vertices_eliminated", preprocessed.getVerticesEliminated());
+        obj.addProperty("edges_eliminated", preprocessed.getEdgesEliminated());
+        obj.addProperty("execution_time_ms", Math.round(preprocessed.getExecutionTimeMs() * 100.0) / 100.0);
+        return obj;
     }
     
     private static JsonObject createAlgorithmResult(MSTResult result) {
@@ -87,9 +427,146 @@ public class MSTProcessor {
         
         obj.add("mst_edges", mstEdges);
         obj.addProperty("total_cost", result.getTotalCost());
-        obj.addProperty("operations_count", result.getOperationsCount());
-        obj.addProperty("execution_time_ms", Math.round(result.getExecutionTimeMs() * 100.0) / 100.0);
+        addRunStats(obj, result.getOperationsCount(), result.getExecutionTimeMs(), result.isComplete(),
+            result.getMstEdges().size(), result.getEdgesScanned(),
+            result.hasPhaseTimes() ? phaseArray(result::getPhaseTimeMs) : null);
+        
+        return obj;
+    }
+    
+    private static JsonObject createAlgorithmResult(LongMSTResult result, LongWeightGraph graph) {
+        JsonObject obj = new JsonObject();
+        
+        JsonArray mstEdges = new JsonArray();
+        for (int e : result.getMstEdges()) {
+            JsonObject edgeObj = new JsonObject();
+            edgeObj.addProperty("from", graph.getNodeName(graph.getEdgeFrom(e)));
+            edgeObj.addProperty("to", graph.getNodeName(graph.getEdgeTo(e)));
+            edgeObj.addProperty("weight", graph.getWeight(e));
+            mstEdges.add(edgeObj);
+        }
+        
+        obj.add("mst_edges", mstEdges);
+        obj.addProperty("total_cost", result.getTotalCost());
+        addRunStats(obj, result.getOperationsCount(), result.getExecutionTimeMs(), result.isComplete(),
+            result.getMstEdges().length, result.getEdgesScanned(),
+            result.hasPhaseTimes() ? phaseArray(result::getPhaseTimeMs) : null);
+        
+        return obj;
+    }
+    
+    private static JsonObject createAlgorithmResult(DoubleMSTResult result, DoubleWeightGraph graph) {
+        JsonObject obj = new JsonObject();
+        
+        JsonArray mstEdges = new JsonArray();
+        for (int e : result.getMstEdges()) {
+            JsonObject edgeObj = new JsonObject();
+            edgeObj.addProperty("from", graph.getNodeName(graph.getEdgeFrom(e)));
+            edgeObj.addProperty("to", graph.getNodeName(graph.getEdgeTo(e)));
+            edgeObj.addProperty("weight", graph.getWeight(e));
+            mstEdges.add(edgeObj);
+        }
+        
+        obj.add("mst_edges", mstEdges);
+        obj.addProperty("total_cost", result.getTotalCost());
+        addRunStats(obj, result.getOperationsCount(), result.getExecutionTimeMs(), result.isComplete(),
+            result.getMstEdges().length, result.getEdgesScanned(),
+            result.hasPhaseTimes() ? phaseArray(result::getPhaseTimeMs) : null);
         
         return obj;
     }
+    
+    /**
+     * Fields shared by every solver result after the edges and cost.
+     */
+    private static void addRunStats(JsonObject obj, int operationsCount, double executionTimeMs, boolean complete,
+                                    int forestEdges, int edgesScanned, double[] phaseTimesMs) {
+        obj.addProperty("operations_count", operationsCount);
+        obj.addProperty("execution_time_ms", Math.round(executionTimeMs * 100.0) / 100.0);
+        obj.addProperty("complete", complete);
+        if (!complete) {
+            JsonObject progress = new JsonObject();
+            progress.addProperty("forest_edges", forestEdges);
+            progress.addProperty("edges_scanned", edgesScanned);
+            obj.add("progress", progress);
+        }
+        if (phaseTimesMs != null) {
+            obj.add("phase_times_ms", createPhaseTimes(phaseTimesMs));
+        }
+    }
+    
+    private static double[] phaseArray(ToDoubleFunction<MSTPhase> phaseTimeMs) {
+        double[] phaseTimesMs = new double[MSTPhase.values().length];
+        for (MSTPhase phase : MSTPhase.values()) {
+            phaseTimesMs[phase.ordinal()] = phaseTimeMs.applyAsDouble(phase);
+        }
+        return phaseTimesMs;
+    }
+    
+    /**
+     * Phases that ran, by label, in milliseconds.
+     */
+    private static JsonObject createPhaseTimes(double[] phaseTimesMs) {
+        JsonObject obj = new JsonObject();
+        for (MSTPhase phase : MSTPhase.values()) {
+            if (phaseTimesMs[phase.ordinal()] > 0) {
+                obj.addProperty(phase.getLabel(), round(phaseTimesMs[phase.ordinal()]));
+            }
+        }
+        return obj;
+    }
+    
+    private static JsonObject createPipelineStats(double wallTimeMs, StageMetrics... stages) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("queue_capacity", QUEUE_CAPACITY);
+        obj.addProperty("wall_time_ms", round(wallTimeMs));
+        StageMetrics slowest = stages[0];
+        JsonObject stageStats = new JsonObject();
+        for (StageMetrics stage : stages) {
+            JsonObject stats = new JsonObject();
+            stats.addProperty("items", stage.getItems());
+            stats.addProperty("busy_ms", round(stage.getBusyMs()));
+            stats.addProperty("starved_ms", round(stage.getStarvedMs()));
+            stats.addProperty("blocked_ms", round(stage.getBlockedMs()));
+            if (stage.hasQueue()) {
+                stats.addProperty("max_queue_depth", stage.getMaxQueueDepth());
+                stats.addProperty("mean_queue_depth", round(stage.getMeanQueueDepth()));
+            }
+            stageStats.add(stage.getName(), stats);
+            if (stage.getBusyMs() > slowest.getBusyMs()) {
+                slowest = stage;
+            }
+        }
+        obj.add("stages", stageStats);
+        obj.addProperty("bottleneck", slowest.getName());
+        return obj;
+    }
+    
+    private static double round(double ms) {
+        return Math.round(ms * 100.0) / 100.0;
+    }
+    
+    private interface StageBody {
+        void run() throws Exception;
+    }
+    
+    /**
+     * A decoded input graph on its way from the reader to the solver. Exactly
+     * one of graph, longGraph and doubleGraph is set, by weight type; all
+     * three and timer are null for point sets.
+     */
+    private static class GraphJob {
+        static final GraphJob END = new GraphJob(null);
+        
+        final GraphData data;
+        Graph graph;
+        LongWeightGraph longGraph;
+        DoubleWeightGraph doubleGraph;
+        PhaseTimer timer;
+        VertexReordering.Strategy reorder;
+        
+        GraphJob(GraphData data) {
+            this.data = data;
+        }
+    }
 }
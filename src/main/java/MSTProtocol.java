@@ -0,0 +1,109 @@
+package main.java;
+
+import com.google.gson.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Wire format between DistributedMST and MSTWorker: each message is a 4-byte
+ * big-endian length followed by that many bytes of UTF-8 JSON. Requests carry
+ * a GraphData, replies an MSTResult, both in their Gson form:
+ *   {"type": "msf", "graph": GraphData}     -> {"type": "result", "result": MSTResult}
+ *   {"type": "shutdown"}                    (no reply; the worker exits)
+ * Failures are answered with {"type": "error", "message": ...}.
+ */
+public final class MSTProtocol {
+    public static final String MSF = "msf";
+    public static final String RESULT = "result";
+    public static final String ERROR = "error";
+    public static final String SHUTDOWN = "shutdown";
+    
+    private static final int MAX_MESSAGE_BYTES = Integer.MAX_VALUE - 8;
+    private static final Gson GSON = new Gson();
+    
+    private MSTProtocol() {
+    }
+    
+    public static void write(DataOutputStream out, JsonObject message) throws IOException {
+        byte[] bytes = GSON.toJson(message).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.flush();
+    }
+    
+    /**
+     * @return the next message, or null if the peer closed the connection
+     */
+    public static JsonObject read(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 0 || length > MAX_MESSAGE_BYTES) {
+            throw new IOException("Invalid message length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return JsonParser.parseString(new String(bytes, StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+    
+    public static JsonObject msfRequest(GraphData graph) {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", MSF);
+        message.add("graph", GSON.toJsonTree(graph));
+        return message;
+    }
+    
+    public static JsonObject resultReply(MSTResult result) {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", RESULT);
+        message.add("result", GSON.toJsonTree(result));
+        return message;
+    }
+    
+    public static JsonObject errorReply(String text) {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", ERROR);
+        message.addProperty("message", text);
+        return message;
+    }
+    
+    public static JsonObject shutdownRequest() {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", SHUTDOWN);
+        return message;
+    }
+    
+    public static GraphData graphOf(JsonObject message) {
+        return GSON.fromJson(message.get("graph"), GraphData.class);
+    }
+    
+    public static MSTResult resultOf(JsonObject message) {
+        return GSON.fromJson(message.get("result"), MSTResult.class);
+    }
+    
+    /**
+     * GraphData for a set of edges; the node list holds just their endpoints.
+     */
+    public static GraphData toGraphData(int id, List<Edge> edges) {
+        Set<String> nodes = new LinkedHashSet<>();
+        List<GraphData.EdgeData> edgeData = new ArrayList<>(edges.size());
+        for (Edge edge : edges) {
+            nodes.add(edge.getFrom());
+            nodes.add(edge.getTo());
+            GraphData.EdgeData data = new GraphData.EdgeData();
+            data.setFrom(edge.getFrom());
+            data.setTo(edge.getTo());
+            data.setWeight(edge.getWeight());
+            edgeData.add(data);
+        }
+        GraphData graph = new GraphData();
+        graph.setId(id);
+        graph.setNodes(new ArrayList<>(nodes));
+        graph.setEdges(edgeData);
+        return graph;
+    }
+}
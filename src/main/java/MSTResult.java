@@ -4,22 +4,46 @@ import java.util.List;
 
 public class MSTResult {
     private final List<Edge> mstEdges;
-    private final int totalCost;
+    private final long totalCost;
     private final int operationsCount;
     private final double executionTimeMs;
+    private final double[] phaseTimesMs;
+    private final boolean complete;
+    private final int edgesScanned;
     
-    public MSTResult(List<Edge> mstEdges, int totalCost, int operationsCount, double executionTimeMs) {
+    public MSTResult(List<Edge> mstEdges, long totalCost, int operationsCount, double executionTimeMs) {
+        this(mstEdges, totalCost, operationsCount, executionTimeMs, null);
+    }
+    
+    /**
+     * @param phaseTimesMs milliseconds per MSTPhase ordinal, or null if not recorded
+     */
+    public MSTResult(List<Edge> mstEdges, long totalCost, int operationsCount, double executionTimeMs,
+                     double[] phaseTimesMs) {
+        this(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs, true, -1);
+    }
+    
+    /**
+     * @param complete false if the solve was cancelled and mstEdges is only
+     *                 part of the minimum spanning forest
+     * @param edgesScanned edges examined by the solver's main loop, -1 if not tracked
+     */
+    public MSTResult(List<Edge> mstEdges, long totalCost, int operationsCount, double executionTimeMs,
+                     double[] phaseTimesMs, boolean complete, int edgesScanned) {
         this.mstEdges = mstEdges;
         this.totalCost = totalCost;
         this.operationsCount = operationsCount;
         this.executionTimeMs = executionTimeMs;
+        this.phaseTimesMs = phaseTimesMs;
+        this.complete = complete;
+        this.edgesScanned = edgesScanned;
     }
     
     public List<Edge> getMstEdges() {
         return mstEdges;
     }
     
-    public int getTotalCost() {
+    public long getTotalCost() {
         return totalCost;
     }
     
@@ -30,4 +54,27 @@ public class MSTResult {
     public double getExecutionTimeMs() {
         return executionTimeMs;
     }
+    
+    public boolean hasPhaseTimes() {
+        return phaseTimesMs != null;
+    }
+    
+    /**
+     * Time spent in the given phase, 0 if the phase did not run or was not recorded.
+     */
+    public double getPhaseTimeMs(MSTPhase phase) {
+        return phaseTimesMs == null ? 0 : phaseTimesMs[phase.ordinal()];
+    }
+    
+    /**
+     * False when the solve stopped at a deadline or cancellation; the edges
+     * found so far all belong to the minimum spanning forest.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    public int getEdgesScanned() {
+        return edgesScanned;
+    }
 }
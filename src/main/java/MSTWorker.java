@@ -0,0 +1,123 @@
+package main.java;
+
+import com.google.gson.JsonObject;
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+/**
+ * Worker process for DistributedMST. Listens on a TCP port and answers each
+ * "msf" request with the minimum spanning forest of the graph it carries,
+ * which drops every edge of the partition that cannot be in the global MST.
+ *
+ * Edges are ranked by (weight, smaller endpoint name, larger endpoint name)
+ * before running Kruskal. Every worker and every merge round then breaks
+ * ties the same way, so the forests stay consistent when they are merged.
+ *
+ * Usage: java main.java.MSTWorker [port]   (0 or no port picks a free one)
+ * Prints "LISTENING <port>" once ready.
+ */
+public class MSTWorker {
+    public static final String READY_PREFIX = "LISTENING ";
+    
+    private static final Comparator<Edge> CANONICAL_ORDER = Comparator.comparingInt(Edge::getWeight)
+        .thenComparing(edge -> lowerEndpoint(edge))
+        .thenComparing(edge -> upperEndpoint(edge));
+    
+    private final ServerSocket server;
+    
+    public MSTWorker(int port) throws IOException {
+        this.server = new ServerSocket(port);
+    }
+    
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        try {
+            MSTWorker worker = new MSTWorker(port);
+            System.out.println(READY_PREFIX + worker.getPort());
+            System.out.flush();
+            worker.serve();
+        } catch (IOException e) {
+            System.err.println("Worker failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    public int getPort() {
+        return server.getLocalPort();
+    }
+    
+    /**
+     * Accepts connections until a shutdown request arrives or close() is
+     * called; each connection is served on its own daemon thread.
+     */
+    public void serve() throws IOException {
+        while (!server.isClosed()) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketException e) {
+                if (server.isClosed()) {
+                    return; // shut down
+                }
+                throw e;
+            }
+            Thread handler = new Thread(() -> handle(socket), "mst-worker-" + socket.getPort());
+            handler.setDaemon(true);
+            handler.start();
+        }
+    }
+    
+    public void close() throws IOException {
+        server.close();
+    }
+    
+    /**
+     * Minimum spanning forest of a partition under the canonical edge order.
+     */
+    public static MSTResult localForest(GraphData graphData) {
+        List<Edge> edges = new ArrayList<>(graphData.getEdges().size());
+        for (GraphData.EdgeData edgeData : graphData.getEdges()) {
+            edges.add(new Edge(edgeData.getFrom(), edgeData.getTo(), edgeData.getWeight()));
+        }
+        edges.sort(CANONICAL_ORDER);
+        // Kruskal breaks weight ties by input position, i.e. by the canonical order
+        Graph graph = new Graph(graphData.getNodes(), edges);
+        return new KruskalAlgorithm().findMST(graph, SolverWorkspace.forCurrentThread());
+    }
+    
+    private void handle(Socket socket) {
+        try (Socket s = socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()))) {
+            JsonObject message;
+            while ((message = MSTProtocol.read(in)) != null) {
+                String type = message.get("type").getAsString();
+                if (MSTProtocol.SHUTDOWN.equals(type)) {
+                    close();
+                    return;
+                }
+                if (!MSTProtocol.MSF.equals(type)) {
+                    MSTProtocol.write(out, MSTProtocol.errorReply("Unknown message type: " + type));
+                    continue;
+                }
+                try {
+                    MSTResult result = localForest(MSTProtocol.graphOf(message));
+                    MSTProtocol.write(out, MSTProtocol.resultReply(result));
+                } catch (RuntimeException e) {
+                    MSTProtocol.write(out, MSTProtocol.errorReply(String.valueOf(e)));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Connection closed: " + e.getMessage());
+        }
+    }
+    
+    private static String lowerEndpoint(Edge edge) {
+        return edge.getFrom().compareTo(edge.getTo()) <= 0 ? edge.getFrom() : edge.getTo();
+    }
+    
+    private static String upperEndpoint(Edge edge) {
+        return edge.getFrom().compareTo(edge.getTo()) <= 0 ? edge.getTo() : edge.getFrom();
+    }
+}
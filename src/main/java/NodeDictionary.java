@@ -0,0 +1,99 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Interns node names to dense int ids in first-seen order. Names of the
+ * generator's form "V" + n (no sign, no leading zeros) are resolved through
+ * an array indexed by n, without hashing the string; any other name goes
+ * through a HashMap. The fast path pays off on freshly parsed names, whose
+ * hash codes have not been computed yet, which is why ids are resolved once
+ * at parse time and carried as ints from there on.
+ *
+ * Lookups do not modify the dictionary, so a filled one can be shared
+ * between threads.
+ */
+public class NodeDictionary {
+    private static final int NUMBERED_SLACK = 1024; // how far past size() a V<n> number may go
+    
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private int[] numbered = new int[0]; // n -> id + 1, 0 if absent
+    
+    public NodeDictionary() {
+    }
+    
+    public NodeDictionary(List<String> nodes) {
+        for (String node : nodes) {
+            intern(node);
+        }
+    }
+    
+    /**
+     * Id of name, assigning the next free one if it is new.
+     */
+    public int intern(String name) {
+        int id = lookup(name);
+        if (id >= 0) {
+            return id;
+        }
+        id = names.size();
+        names.add(name);
+        int number = patternNumber(name);
+        if (number >= 0 && number < 2 * (id + NUMBERED_SLACK)) {
+            if (number >= numbered.length) {
+                numbered = Arrays.copyOf(numbered, Math.max(number + 1, 2 * numbered.length));
+            }
+            numbered[number] = id + 1;
+        } else {
+            ids.put(name, id);
+        }
+        return id;
+    }
+    
+    /**
+     * Id of name, or -1 if it has not been interned.
+     */
+    public int lookup(String name) {
+        int number = patternNumber(name);
+        if (number >= 0 && number < numbered.length && numbered[number] != 0) {
+            return numbered[number] - 1;
+        }
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+    
+    public String getName(int id) {
+        return names.get(id);
+    }
+    
+    public int size() {
+        return names.size();
+    }
+    
+    public List<String> getNames() {
+        return Collections.unmodifiableList(names);
+    }
+    
+    /**
+     * n for a name "V" + n in canonical decimal form that fits an int, else -1.
+     */
+    static int patternNumber(String name) {
+        int length = name.length();
+        if (length < 2 || length > 11 || name.charAt(0) != 'V') {
+            return -1;
+        }
+        if (name.charAt(1) == '0' && length > 2) {
+            return -1; // "V01" is not "V1"
+        }
+        long number = 0;
+        for (int i = 1; i < length; i++) {
+            int digit = name.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            number = number * 10 + digit;
+        }
+        return number <= Integer.MAX_VALUE ? (int) number : -1;
+    }
+}
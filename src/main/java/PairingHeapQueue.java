@@ -0,0 +1,145 @@
+package main.java;
+
+import java.util.Arrays;
+
+/**
+ * Indexed pairing heap stored in parallel arrays (no node objects).
+ * Insert and decrease-key are O(1) melds with the root; extractMin merges the
+ * root's children with the standard two-pass pairing.
+ */
+public class PairingHeapQueue implements IndexedPriorityQueue {
+    private static final int NONE = -1;
+    
+    private long[] keys = new long[0];
+    private int[] child = new int[0];
+    private int[] sibling = new int[0];
+    private int[] previous = new int[0]; // left sibling, or parent for a first child
+    private boolean[] present = new boolean[0];
+    private int[] pairs = new int[0]; // scratch for the two-pass merge
+    private int root = NONE;
+    private int size;
+    
+    @Override
+    public void reset(int capacity, long maxKey) {
+        if (keys.length < capacity) {
+            keys = new long[capacity];
+            child = new int[capacity];
+            sibling = new int[capacity];
+            previous = new int[capacity];
+            present = new boolean[capacity];
+            pairs = new int[capacity];
+        }
+        Arrays.fill(present, 0, capacity, false);
+        root = NONE;
+        size = 0;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean contains(int item) {
+        return present[item];
+    }
+    
+    @Override
+    public void insert(int item, long key) {
+        keys[item] = key;
+        child[item] = NONE;
+        sibling[item] = NONE;
+        previous[item] = NONE;
+        present[item] = true;
+        root = root == NONE ? item : meld(root, item);
+        size++;
+    }
+    
+    @Override
+    public void decreaseKey(int item, long key) {
+        keys[item] = key;
+        if (item == root) {
+            return;
+        }
+        // Cut the subtree rooted at item and meld it with the root
+        int prev = previous[item];
+        if (child[prev] == item) {
+            child[prev] = sibling[item];
+        } else {
+            sibling[prev] = sibling[item];
+        }
+        if (sibling[item] != NONE) {
+            previous[sibling[item]] = prev;
+        }
+        sibling[item] = NONE;
+        previous[item] = NONE;
+        root = meld(root, item);
+    }
+    
+    @Override
+    public int extractMin() {
+        int min = root;
+        present[min] = false;
+        size--;
+        
+        // First pass: meld children pairwise left to right
+        int count = 0;
+        int c = child[min];
+        while (c != NONE) {
+            int next = sibling[c];
+            int second = next;
+            int after = next == NONE ? NONE : sibling[next];
+            detach(c);
+            if (second != NONE) {
+                detach(second);
+                pairs[count++] = meld(c, second);
+            } else {
+                pairs[count++] = c;
+            }
+            c = after;
+        }
+        
+        // Second pass: meld the pairs right to left
+        int merged = NONE;
+        for (int i = count - 1; i >= 0; i--) {
+            merged = merged == NONE ? pairs[i] : meld(pairs[i], merged);
+        }
+        root = merged;
+        child[min] = NONE;
+        return min;
+    }
+    
+    @Override
+    public String getName() {
+        return "pairing";
+    }
+    
+    private void detach(int node) {
+        sibling[node] = NONE;
+        previous[node] = NONE;
+    }
+    
+    /**
+     * Links two detached roots; the larger key becomes the first child of the smaller.
+     */
+    private int meld(int a, int b) {
+        if (keys[b] < keys[a]) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int first = child[a];
+        sibling[b] = first;
+        if (first != NONE) {
+            previous[first] = b;
+        }
+        previous[b] = a;
+        child[a] = b;
+        return a;
+    }
+}
@@ -0,0 +1,141 @@
+package main.java;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Kruskal with parallel edge filtering. Sorted edges are processed in batches:
+ * worker threads first drop every edge of the batch whose endpoints are
+ * already connected (a cycle-forming edge stays cycle-forming once the batch
+ * starts), using the lock-free ConcurrentUnionFind. Only the surviving
+ * candidate edges go through the sequential commit, in weight order.
+ */
+public class ParallelKruskalAlgorithm {
+    private static final int DEFAULT_BATCH_SIZE = 8192;
+    
+    private final int threads;
+    private final int batchSize;
+    private int operationsCount;
+    
+    public ParallelKruskalAlgorithm() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    public ParallelKruskalAlgorithm(int threads) {
+        this(threads, DEFAULT_BATCH_SIZE);
+    }
+    
+    public ParallelKruskalAlgorithm(int threads, int batchSize) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public MSTResult findMST(Graph graph) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        IndexedGraph g = IndexedGraph.of(graph);
+        int vertices = g.getVertices();
+        int edgeCount = g.getEdgeCount();
+        
+        List<Edge> mstEdges = new ArrayList<>();
+        long totalCost = 0;
+        
+        // Sort edges by weight (ties by edge index)
+        long[] sorted = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            sorted[e] = g.edgeKey(e);
+        }
+        Arrays.parallelSort(sorted);
+        operationsCount += edgeCount; // counting sort operations
+        
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(vertices);
+        boolean[] candidate = new boolean[Math.min(batchSize, edgeCount)];
+        ExecutorService pool = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        try {
+            for (int lo = 0; lo < edgeCount && mstEdges.size() < vertices - 1; lo += batchSize) {
+                int hi = Math.min(lo + batchSize, edgeCount);
+                
+                // Filter: drop edges already closing a cycle
+                operationsCount += filterBatch(pool, g, uf, sorted, lo, hi, candidate);
+                
+                // Commit: sequential Kruskal over the surviving candidates
+                for (int i = lo; i < hi && mstEdges.size() < vertices - 1; i++) {
+                    operationsCount++; // iterating through edges
+                    if (!candidate[i - lo]) {
+                        continue;
+                    }
+                    int e = (int) sorted[i];
+                    operationsCount++; // find operation
+                    if (uf.union(g.getFrom(e), g.getTo(e))) {
+                        mstEdges.add(g.getEdge(e));
+                        totalCost += g.getWeight(e);
+                        operationsCount++; // union operation
+                    }
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+    }
+    
+    /**
+     * Marks candidate[i - lo] for every edge in sorted[lo, hi) whose endpoints
+     * are not yet connected. The union-find is only read (and path-compressed)
+     * while filtering, so concurrent checks never see a half-applied commit.
+     * @return number of operations performed
+     */
+    private int filterBatch(ExecutorService pool, IndexedGraph g, ConcurrentUnionFind uf,
+                            long[] sorted, int lo, int hi, boolean[] candidate) {
+        if (pool == null) {
+            return filterRange(g, uf, sorted, lo, lo, hi, candidate);
+        }
+        
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        int chunk = (hi - lo + threads - 1) / threads;
+        for (int start = lo; start < hi; start += chunk) {
+            int from = start;
+            int to = Math.min(start + chunk, hi);
+            tasks.add(() -> filterRange(g, uf, sorted, lo, from, to, candidate));
+        }
+        
+        int operations = 0;
+        try {
+            for (Future<Integer> future : pool.invokeAll(tasks)) {
+                operations += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel Kruskal was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parallel Kruskal worker failed", e.getCause());
+        }
+        return operations;
+    }
+    
+    private static int filterRange(IndexedGraph g, ConcurrentUnionFind uf, long[] sorted,
+                                   int lo, int from, int to, boolean[] candidate) {
+        for (int i = from; i < to; i++) {
+            int e = (int) sorted[i];
+            candidate[i - lo] = !uf.isConnected(g.getFrom(e), g.getTo(e));
+        }
+        return to - from; // one find per edge
+    }
+}
@@ -0,0 +1,169 @@
+package main.java;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Multi-source Prim. Worker threads grow independent trees from different
+ * seed vertices, each with its own heap, and claim vertices through a shared
+ * atomic ownership array. A tree stops growing when its lightest outgoing edge
+ * reaches a vertex owned by another tree; that edge is still an MST edge by
+ * the cut property, so the trees are merged through it. The remaining edges
+ * between trees are resolved by a final contraction (Kruskal) step.
+ *
+ * Ties are broken by edge index so every thread agrees on a single MST.
+ */
+public class ParallelPrimAlgorithm {
+    private static final int UNOWNED = 0;
+    
+    private final int threads;
+    private int operationsCount;
+    
+    public ParallelPrimAlgorithm() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    public ParallelPrimAlgorithm(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.threads = threads;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public MSTResult findMST(Graph graph) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        IndexedGraph g = IndexedGraph.of(graph);
+        g.getOffsets(); // build the shared adjacency before workers read it
+        
+        int vertices = g.getVertices();
+        AtomicIntegerArray owner = new AtomicIntegerArray(vertices);
+        AtomicIntegerArray selected = new AtomicIntegerArray(g.getEdgeCount());
+        AtomicInteger nextSeed = new AtomicInteger();
+        AtomicInteger nextTree = new AtomicInteger(UNOWNED + 1);
+        
+        // Grow trees concurrently
+        List<Callable<Integer>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(() -> growTrees(g, owner, selected, nextSeed, nextTree));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Integer> future : pool.invokeAll(workers)) {
+                operationsCount += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel Prim was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parallel Prim worker failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        
+        // Contraction: merge the grown trees, then connect them with Kruskal
+        List<Edge> mstEdges = new ArrayList<>();
+        long totalCost = 0;
+        UnionFind uf = new UnionFind(vertices);
+        
+        long[] crossing = new long[g.getEdgeCount()];
+        int crossingCount = 0;
+        for (int e = 0; e < g.getEdgeCount(); e++) {
+            operationsCount++; // scanning edges for contraction
+            if (selected.get(e) == 1) {
+                if (uf.union(g.getFrom(e), g.getTo(e))) {
+                    mstEdges.add(g.getEdge(e));
+                    totalCost += g.getWeight(e);
+                    operationsCount++; // adding edge to MST
+                }
+            } else {
+                crossing[crossingCount++] = g.edgeKey(e);
+            }
+        }
+        
+        Arrays.sort(crossing, 0, crossingCount);
+        operationsCount += crossingCount; // counting sort operations
+        for (int i = 0; i < crossingCount && mstEdges.size() < vertices - 1; i++) {
+            int e = (int) crossing[i];
+            operationsCount++; // find operation
+            if (uf.union(g.getFrom(e), g.getTo(e))) {
+                mstEdges.add(g.getEdge(e));
+                totalCost += g.getWeight(e);
+                operationsCount++; // union operation
+            }
+        }
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+    }
+    
+    /**
+     * Worker loop: claim unowned seeds and grow a Prim tree from each until the
+     * tree collides with another one or exhausts its component.
+     * @return number of operations performed by this worker
+     */
+    private static int growTrees(IndexedGraph g, AtomicIntegerArray owner, AtomicIntegerArray selected,
+                                 AtomicInteger nextSeed, AtomicInteger nextTree) {
+        int[] offsets = g.getOffsets();
+        int[] adjacency = g.getAdjacency();
+        LongMinHeap heap = new LongMinHeap();
+        int operations = 0;
+        
+        int seed;
+        while ((seed = nextSeed.getAndIncrement()) < g.getVertices()) {
+            if (owner.get(seed) != UNOWNED) {
+                continue;
+            }
+            int tree = nextTree.getAndIncrement();
+            if (!owner.compareAndSet(seed, UNOWNED, tree)) {
+                continue;
+            }
+            operations++; // claiming seed
+            
+            heap.clear();
+            for (int i = offsets[seed]; i < offsets[seed + 1]; i++) {
+                heap.offer(g.edgeKey(adjacency[i]));
+                operations++; // adding to priority queue
+            }
+            
+            while (!heap.isEmpty()) {
+                int e = (int) heap.poll();
+                operations++; // polling from priority queue
+                
+                int u = g.getFrom(e);
+                int v = g.getTo(e);
+                boolean ownsU = owner.get(u) == tree;
+                boolean ownsV = owner.get(v) == tree;
+                if (ownsU && ownsV) {
+                    continue; // internal edge
+                }
+                
+                int target = ownsU ? v : u;
+                selected.set(e, 1);
+                operations++; // adding edge to MST
+                if (!owner.compareAndSet(target, UNOWNED, tree)) {
+                    break; // collided with another tree; contraction merges them
+                }
+                
+                for (int i = offsets[target]; i < offsets[target + 1]; i++) {
+                    int next = adjacency[i];
+                    if (owner.get(g.other(next, target)) != tree) {
+                        heap.offer(g.edgeKey(next));
+                        operations++; // adding to priority queue
+                    }
+                    operations++; // checking ownership
+                }
+            }
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,79 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Measures ParallelPrimAlgorithm speedup across thread counts on the extra_*
+ * tier of the benchmark specification and on larger sparse graphs.
+ */
+public class ParallelPrimBenchmark {
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    
+    public static void main(String[] args) {
+        System.out.println("=".repeat(80));
+        System.out.println("Parallel Prim Speedup");
+        System.out.println("=".repeat(80));
+        
+        List<GraphGenerator.TestGraphSpec> specs = new ArrayList<>();
+        for (GraphGenerator.TestGraphSpec spec : GraphGenerator.generateTestSpecification()) {
+            if (spec.getName().startsWith("extra")) {
+                specs.add(spec);
+            }
+        }
+        specs.add(new GraphGenerator.TestGraphSpec("huge_1", 20000, 100000, 100000));
+        specs.add(new GraphGenerator.TestGraphSpec("huge_2", 100000, 500000, 100000));
+        
+        List<Integer> threadCounts = new ArrayList<>();
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int t = 1; t <= cores; t *= 2) {
+            threadCounts.add(t);
+        }
+        if (threadCounts.get(threadCounts.size() - 1) != cores) {
+            threadCounts.add(cores);
+        }
+        
+        System.out.printf("%-10s %8s %8s", "Name", "Vertices", "Edges");
+        for (int t : threadCounts) {
+            System.out.printf(" | %5s thr", t);
+        }
+        System.out.println();
+        System.out.println("-".repeat(80));
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        for (GraphGenerator.TestGraphSpec spec : specs) {
+            Graph graph = generator.generateGraph(spec.getVertices(), spec.getEdges(), spec.getMaxWeight());
+            long expectedCost = new KruskalAlgorithm().findMST(graph).getTotalCost();
+            
+            System.out.printf("%-10s %8d %8d", spec.getName(), spec.getVertices(), spec.getEdges());
+            double baseline = 0;
+            for (int t : threadCounts) {
+                ParallelPrimAlgorithm prim = new ParallelPrimAlgorithm(t);
+                double time = medianTime(prim, graph, expectedCost);
+                if (t == 1) {
+                    baseline = time;
+                }
+                System.out.printf(" | %5.2fx   ", baseline / time);
+            }
+            System.out.printf("  (1 thread: %.2fms)\n", baseline);
+        }
+        
+        System.out.println("=".repeat(80));
+    }
+    
+    private static double medianTime(ParallelPrimAlgorithm prim, Graph graph, long expectedCost) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            prim.findMST(graph);
+        }
+        double[] times = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            MSTResult result = prim.findMST(graph);
+            if (result.getTotalCost() != expectedCost) {
+                throw new IllegalStateException("Parallel Prim cost mismatch with " + prim.getThreads() + " threads");
+            }
+            times[i] = result.getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+}
@@ -0,0 +1,89 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Measures PathMaxIndex build time and what-if query throughput (single
+ * queries and parallel batches of several million) on sparse random graphs,
+ * against the cost of answering one what-if by re-running Kruskal.
+ */
+public class PathMaxBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int AVERAGE_DEGREE = 8;
+    private static final int QUERIES = 5_000_000;
+    private static final int RUNS = 3;
+    
+    public static void main(String[] args) {
+        SolverWorkspace workspace = new SolverWorkspace();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        Random random = new Random(42);
+        
+        System.out.println("=".repeat(100));
+        System.out.println("Path-Max Query Benchmark (" + QUERIES + " random what-if queries, best of " + RUNS + " runs)");
+        System.out.println("=".repeat(100));
+        System.out.printf("%9s %9s %11s %11s %15s %15s %14s\n",
+            "V", "E", "Solve (ms)", "Index (ms)", "Single (q/s)", "Batch (q/s)", "vs re-solve");
+        System.out.println("-".repeat(100));
+        
+        for (int vertices : SIZES) {
+            GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec("uniform_random",
+                vertices, vertices * AVERAGE_DEGREE / 2, 1_000_000,
+                GraphGenerator.GraphFamily.UNIFORM_RANDOM, GraphGenerator.WeightDistribution.UNIFORM);
+            Graph graph = generator.generateGraph(spec);
+            MSTResult mst = kruskal.findMST(graph, workspace);
+            
+            double indexMs = Double.MAX_VALUE;
+            PathMaxIndex index = null;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                index = new PathMaxIndex(graph, mst);
+                indexMs = Math.min(indexMs, (System.nanoTime() - start) / 1_000_000.0);
+            }
+            
+            int[] from = new int[QUERIES];
+            int[] to = new int[QUERIES];
+            int[] weights = new int[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                from[i] = random.nextInt(vertices);
+                to[i] = random.nextInt(vertices);
+                weights[i] = 1 + random.nextInt(1_000_000);
+            }
+            
+            double singleMs = Double.MAX_VALUE;
+            double batchMs = Double.MAX_VALUE;
+            long checksum = 0;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                long sum = 0;
+                for (int i = 0; i < QUERIES; i++) {
+                    sum += index.whatIfDelta(from[i], to[i], weights[i]);
+                }
+                singleMs = Math.min(singleMs, (System.nanoTime() - start) / 1_000_000.0);
+                
+                start = System.nanoTime();
+                long[] deltas = index.whatIfDeltas(from, to, weights);
+                batchMs = Math.min(batchMs, (System.nanoTime() - start) / 1_000_000.0);
+                
+                long batchSum = 0;
+                for (long delta : deltas) {
+                    batchSum += delta;
+                }
+                if (batchSum != sum) {
+                    throw new IllegalStateException("Batch and single queries disagree");
+                }
+                checksum = sum;
+            }
+            
+            // One what-if answered the slow way: re-solve with the extra edge
+            double batchPerQueryMs = batchMs / QUERIES;
+            System.out.printf("%9d %9d %11.2f %11.2f %15.0f %15.0f %13.0fx\n",
+                graph.getVertices(), graph.getEdgeCount(), mst.getExecutionTimeMs(), indexMs,
+                QUERIES / (singleMs / 1000.0), QUERIES / (batchMs / 1000.0),
+                mst.getExecutionTimeMs() / batchPerQueryMs);
+            System.out.println("          total delta over all queries: " + checksum);
+        }
+        
+        System.out.println("=".repeat(100));
+    }
+}
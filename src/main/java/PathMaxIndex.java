@@ -0,0 +1,226 @@
+package main.java;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Answers "heaviest edge on the tree path between u and v" over a minimum
+ * spanning tree (or forest) in O(log V) per query using binary lifting:
+ * ancestor[k][v] is the 2^k-th ancestor of v and maxUp[k][v] the heaviest
+ * edge on the way there. Built once from an MSTResult in O(V log V).
+ *
+ * By the cycle property this is enough for what-if questions about adding
+ * an edge, and for the second-best spanning tree, without re-running a solver.
+ * The index is immutable, so queries may run concurrently.
+ */
+public class PathMaxIndex {
+    private static final int PARALLEL_BATCH = 1 << 14;
+    
+    private final Graph graph;
+    private final long treeCost;
+    private final int levels;
+    private final int[][] ancestor;
+    private final int[][] maxUp;
+    private final int[] depth;
+    private final int[] component;
+    private final Map<Long, Integer> treeEdgeWeight; // packed vertex pair -> weight
+    
+    /**
+     * @param graph graph the tree was computed on; supplies the vertex numbering
+     * @param mst   minimum spanning tree or forest of graph
+     */
+    public PathMaxIndex(Graph graph, MSTResult mst) {
+        this.graph = graph;
+        int n = graph.getVertices();
+        
+        // Tree adjacency in CSR form
+        List<Edge> edges = mst.getMstEdges();
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int[] weight = new int[edges.size()];
+        int[] start = new int[n + 1];
+        long cost = 0;
+        treeEdgeWeight = new HashMap<>();
+        for (int e = 0; e < edges.size(); e++) {
+            Edge edge = edges.get(e);
+            from[e] = graph.getNodeIndex(edge.getFrom());
+            to[e] = graph.getNodeIndex(edge.getTo());
+            weight[e] = edge.getWeight();
+            cost += weight[e];
+            start[from[e] + 1]++;
+            start[to[e] + 1]++;
+            treeEdgeWeight.put(pairKey(from[e], to[e]), weight[e]);
+        }
+        treeCost = cost;
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = Arrays.copyOf(start, n);
+        int[] adjacency = new int[2 * edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            adjacency[fill[from[e]]++] = e;
+            adjacency[fill[to[e]]++] = e;
+        }
+        
+        // Root each tree with a BFS
+        levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1)));
+        ancestor = new int[levels][n];
+        maxUp = new int[levels][n];
+        depth = new int[n];
+        component = new int[n];
+        Arrays.fill(component, -1);
+        int[] queue = new int[n];
+        for (int root = 0; root < n; root++) {
+            if (component[root] >= 0) {
+                continue;
+            }
+            component[root] = root;
+            ancestor[0][root] = root;
+            maxUp[0][root] = Integer.MIN_VALUE;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int i = start[u]; i < start[u + 1]; i++) {
+                    int e = adjacency[i];
+                    int v = from[e] == u ? to[e] : from[e];
+                    if (component[v] < 0) {
+                        component[v] = root;
+                        depth[v] = depth[u] + 1;
+                        ancestor[0][v] = u;
+                        maxUp[0][v] = weight[e];
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+        
+        // Jump tables
+        for (int k = 1; k < levels; k++) {
+            int[] previous = ancestor[k - 1];
+            int[] previousMax = maxUp[k - 1];
+            for (int v = 0; v < n; v++) {
+                int middle = previous[v];
+                ancestor[k][v] = previous[middle];
+                maxUp[k][v] = Math.max(previousMax[v], previousMax[middle]);
+            }
+        }
+    }
+    
+    public long getTreeCost() {
+        return treeCost;
+    }
+    
+    public boolean isConnected(int u, int v) {
+        return component[u] == component[v];
+    }
+    
+    /**
+     * Heaviest tree edge on the path between u and v (vertex indices of the
+     * graph); Integer.MIN_VALUE if u == v.
+     * @throws IllegalArgumentException if u and v are in different trees
+     */
+    public int maxOnPath(int u, int v) {
+        if (!isConnected(u, v)) {
+            throw new IllegalArgumentException("Vertices " + u + " and " + v + " are not connected in the tree");
+        }
+        int max = Integer.MIN_VALUE;
+        if (depth[u] < depth[v]) {
+            int tmp = u;
+            u = v;
+            v = tmp;
+        }
+        // Lift u to v's depth
+        int diff = depth[u] - depth[v];
+        for (int k = 0; diff > 0; k++, diff >>>= 1) {
+            if ((diff & 1) != 0) {
+                max = Math.max(max, maxUp[k][u]);
+                u = ancestor[k][u];
+            }
+        }
+        if (u == v) {
+            return max;
+        }
+        // Lift both to just below their lowest common ancestor
+        for (int k = levels - 1; k >= 0; k--) {
+            if (ancestor[k][u] != ancestor[k][v]) {
+                max = Math.max(max, Math.max(maxUp[k][u], maxUp[k][v]));
+                u = ancestor[k][u];
+                v = ancestor[k][v];
+            }
+        }
+        return Math.max(max, Math.max(maxUp[0][u], maxUp[0][v]));
+    }
+    
+    public int maxOnPath(String u, String v) {
+        return maxOnPath(graph.getNodeIndex(u), graph.getNodeIndex(v));
+    }
+    
+    /**
+     * Change in the minimum spanning forest cost if edge (u, v, weight) were
+     * added to the graph: weight minus the path maximum when that is
+     * negative, 0 when the edge would not be used, and +weight when it joins
+     * two separate trees.
+     */
+    public long whatIfDelta(int u, int v, int weight) {
+        if (!isConnected(u, v)) {
+            return weight;
+        }
+        if (u == v) {
+            return 0;
+        }
+        return Math.min(0L, (long) weight - maxOnPath(u, v));
+    }
+    
+    public long whatIfDelta(String u, String v, int weight) {
+        return whatIfDelta(graph.getNodeIndex(u), graph.getNodeIndex(v), weight);
+    }
+    
+    /**
+     * whatIfDelta for many independent candidate edges; large batches are
+     * answered in parallel.
+     */
+    public long[] whatIfDeltas(int[] from, int[] to, int[] weights) {
+        if (from.length != to.length || from.length != weights.length) {
+            throw new IllegalArgumentException("Query arrays must have the same length");
+        }
+        long[] deltas = new long[from.length];
+        IntStream range = IntStream.range(0, from.length);
+        if (from.length >= PARALLEL_BATCH) {
+            range = range.parallel();
+        }
+        range.forEach(i -> deltas[i] = whatIfDelta(from[i], to[i], weights[i]));
+        return deltas;
+    }
+    
+    /**
+     * Cost of the cheapest spanning tree (forest) of the indexed graph that
+     * differs from the indexed one in at least one edge: swap in the non-tree
+     * edge whose weight exceeds the path maximum it would replace by the least.
+     * Empty if every edge of the graph is a tree edge.
+     */
+    public OptionalLong secondBestCost() {
+        Set<Long> treeEdgesSeen = new HashSet<>();
+        long bestIncrease = Long.MAX_VALUE;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            Edge edge = graph.getEdge(e);
+            int u = graph.getEdgeFrom(e);
+            int v = graph.getEdgeTo(e);
+            if (u == v) {
+                continue; // a self-loop never forms a spanning tree
+            }
+            long key = pairKey(u, v);
+            Integer treeWeight = treeEdgeWeight.get(key);
+            if (treeWeight != null && treeWeight == edge.getWeight() && treeEdgesSeen.add(key)) {
+                continue; // the tree edge itself; any parallel copies are real alternatives
+            }
+            bestIncrease = Math.min(bestIncrease, (long) edge.getWeight() - maxOnPath(u, v));
+        }
+        return bestIncrease == Long.MAX_VALUE ? OptionalLong.empty() : OptionalLong.of(treeCost + bestIncrease);
+    }
+    
+    private static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+}
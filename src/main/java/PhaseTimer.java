@@ -0,0 +1,78 @@
+package main.java;
+
+import jdk.jfr.EventType;
+
+/**
+ * Times consecutive MST phases for one graph: the elapsed time of each phase
+ * is accumulated for MSTResult, and an MSTPhaseEvent is committed when JFR
+ * is recording. Starting a phase ends the previous one. No event is
+ * allocated while no recording has the event enabled.
+ *
+ * Solvers don't know which input graph they run on, so the graph id for the
+ * events is taken from the calling thread (see setGraphId).
+ */
+public class PhaseTimer {
+    private static final ThreadLocal<String> GRAPH_ID = new ThreadLocal<>();
+    private static final MSTPhase[] PHASES = MSTPhase.values();
+    private static final EventType PHASE_EVENT = EventType.getEventType(MSTPhaseEvent.class);
+    
+    private final int vertices;
+    private final int edges;
+    private final double[] timesMs = new double[PHASES.length];
+    private MSTPhase current;
+    private long currentStart;
+    private MSTPhaseEvent event;
+    
+    public PhaseTimer(int vertices, int edges) {
+        this.vertices = vertices;
+        this.edges = edges;
+    }
+    
+    /**
+     * Graph id attached to events from this thread until changed; null clears it.
+     */
+    public static void setGraphId(String graphId) {
+        if (graphId == null) {
+            GRAPH_ID.remove();
+        } else {
+            GRAPH_ID.set(graphId);
+        }
+    }
+    
+    public void start(MSTPhase phase) {
+        stop();
+        current = phase;
+        if (PHASE_EVENT.isEnabled()) {
+            event = new MSTPhaseEvent();
+            event.begin();
+        }
+        currentStart = System.nanoTime();
+    }
+    
+    public void stop() {
+        if (current == null) {
+            return;
+        }
+        timesMs[current.ordinal()] += (System.nanoTime() - currentStart) / 1_000_000.0;
+        if (event != null) {
+            event.end();
+        }
+        if (event != null && event.shouldCommit()) {
+            event.phase = current.getLabel();
+            event.graphId = GRAPH_ID.get();
+            event.vertices = vertices;
+            event.edges = edges;
+            event.commit();
+        }
+        current = null;
+        event = null;
+    }
+    
+    /**
+     * Accumulated milliseconds per phase, indexed by MSTPhase ordinal; stops the running phase.
+     */
+    public double[] getTimesMs() {
+        stop();
+        return timesMs;
+    }
+}
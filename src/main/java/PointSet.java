@@ -0,0 +1,79 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Points in 2D or 3D space, stored as one flat coordinate array so that a set
+ * of n points costs O(n) memory. Input for EuclideanMST, which never
+ * materializes the complete graph.
+ */
+public class PointSet {
+    private final int dimensions;
+    private final double[] coordinates;
+    private final List<String> names;
+    
+    /**
+     * @param dimensions 2 or 3
+     * @param coordinates point i occupies [i * dimensions, (i + 1) * dimensions)
+     * @param names point names, or null to name them P0, P1, ...
+     */
+    public PointSet(int dimensions, double[] coordinates, List<String> names) {
+        if (dimensions != 2 && dimensions != 3) {
+            throw new IllegalArgumentException("Only 2D and 3D points are supported");
+        }
+        if (coordinates.length % dimensions != 0) {
+            throw new IllegalArgumentException("Coordinate count is not a multiple of " + dimensions);
+        }
+        if (names != null && names.size() != coordinates.length / dimensions) {
+            throw new IllegalArgumentException("Expected one name per point");
+        }
+        this.dimensions = dimensions;
+        this.coordinates = coordinates;
+        this.names = names == null ? null : new ArrayList<>(names);
+    }
+    
+    public static PointSet fromPoints(List<double[]> points, List<String> names) {
+        if (points.isEmpty()) {
+            return new PointSet(2, new double[0], names);
+        }
+        int dimensions = points.get(0).length;
+        double[] coordinates = new double[points.size() * dimensions];
+        for (int i = 0; i < points.size(); i++) {
+            double[] point = points.get(i);
+            if (point.length != dimensions) {
+                throw new IllegalArgumentException("Point " + i + " has " + point.length + " coordinates, expected " + dimensions);
+            }
+            System.arraycopy(point, 0, coordinates, i * dimensions, dimensions);
+        }
+        return new PointSet(dimensions, coordinates, names);
+    }
+    
+    public int size() {
+        return coordinates.length / dimensions;
+    }
+    
+    public int getDimensions() {
+        return dimensions;
+    }
+    
+    public double getCoordinate(int point, int dimension) {
+        return coordinates[point * dimensions + dimension];
+    }
+    
+    public String getName(int point) {
+        return names != null ? names.get(point) : "P" + point;
+    }
+    
+    public double distanceSquared(int a, int b) {
+        double sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            double delta = coordinates[a * dimensions + d] - coordinates[b * dimensions + d];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+    
+    double[] getCoordinates() {
+        return coordinates;
+    }
+}
@@ -0,0 +1,110 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Output of GraphPreprocessor: the reduced kernel graph to hand to a solver,
+ * the edges already known to be in the MST, and reduction statistics.
+ * Kernel and forced edges are the original Edge objects, so expand() maps a
+ * kernel result straight back to the input graph.
+ */
+public class PreprocessedGraph {
+    private final Graph kernel;
+    private final List<Edge> forcedEdges;
+    private final long forcedCost;
+    private final int originalVertices;
+    private final int originalEdges;
+    private final int selfLoopsRemoved;
+    private final int parallelEdgesRemoved;
+    private final int operationsCount;
+    private final double executionTimeMs;
+    
+    public PreprocessedGraph(Graph kernel, List<Edge> forcedEdges, long forcedCost,
+                             int originalVertices, int originalEdges,
+                             int selfLoopsRemoved, int parallelEdgesRemoved,
+                             int operationsCount, double executionTimeMs) {
+        this.kernel = kernel;
+        this.forcedEdges = forcedEdges;
+        this.forcedCost = forcedCost;
+        this.originalVertices = originalVertices;
+        this.originalEdges = originalEdges;
+        this.selfLoopsRemoved = selfLoopsRemoved;
+        this.parallelEdgesRemoved = parallelEdgesRemoved;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+    }
+    
+    public Graph getKernel() {
+        return kernel;
+    }
+    
+    public List<Edge> getForcedEdges() {
+        return forcedEdges;
+    }
+    
+    public long getForcedCost() {
+        return forcedCost;
+    }
+    
+    public int getOriginalVertices() {
+        return originalVertices;
+    }
+    
+    public int getOriginalEdges() {
+        return originalEdges;
+    }
+    
+    public int getSelfLoopsRemoved() {
+        return selfLoopsRemoved;
+    }
+    
+    public int getParallelEdgesRemoved() {
+        return parallelEdgesRemoved;
+    }
+    
+    public int getLeavesContracted() {
+        return forcedEdges.size();
+    }
+    
+    public int getVerticesEliminated() {
+        return originalVertices - kernel.getVertices();
+    }
+    
+    public int getEdgesEliminated() {
+        return originalEdges - kernel.getEdgeCount();
+    }
+    
+    public int getOperationsCount() {
+        return operationsCount;
+    }
+    
+    public double getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+    
+    /**
+     * Combines a solver result on the kernel with the forced edges into the
+     * MST of the original graph. Operation counts and times include the
+     * preprocessing stage, which is also reported as the PREPROCESS phase.
+     */
+    public MSTResult expand(MSTResult kernelResult) {
+        List<Edge> mstEdges = new ArrayList<>(forcedEdges.size() + kernelResult.getMstEdges().size());
+        mstEdges.addAll(forcedEdges);
+        mstEdges.addAll(kernelResult.getMstEdges());
+        double[] phaseTimesMs = null;
+        if (kernelResult.hasPhaseTimes()) {
+            phaseTimesMs = new double[MSTPhase.values().length];
+            for (MSTPhase phase : MSTPhase.values()) {
+                phaseTimesMs[phase.ordinal()] = kernelResult.getPhaseTimeMs(phase);
+            }
+            phaseTimesMs[MSTPhase.PREPROCESS.ordinal()] += executionTimeMs;
+        }
+        return new MSTResult(mstEdges,
+            forcedCost + kernelResult.getTotalCost(),
+            operationsCount + kernelResult.getOperationsCount(),
+            executionTimeMs + kernelResult.getExecutionTimeMs(),
+            phaseTimesMs,
+            kernelResult.isComplete(),
+            kernelResult.getEdgesScanned());
+    }
+}
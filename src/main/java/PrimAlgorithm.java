@@ -1,38 +1,76 @@
 package main.java;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class PrimAlgorithm {
+    private final Supplier<IndexedPriorityQueue> queueFactory;
     private int operationsCount;
     
+    public PrimAlgorithm() {
+        this.queueFactory = null;
+    }
+    
+    /**
+     * Eager Prim over int vertex ids, using the given priority queue with
+     * decrease-key instead of the default lazy java.util.PriorityQueue.
+     */
+    public PrimAlgorithm(Supplier<IndexedPriorityQueue> queueFactory) {
+        this.queueFactory = queueFactory;
+    }
+    
     public MSTResult findMST(Graph graph) {
+        return findMST(graph, CancellationToken.NONE);
+    }
+    
+    /**
+     * Stops early once the token fires and returns the tree grown so far,
+     * flagged incomplete.
+     */
+    public MSTResult findMST(Graph graph, CancellationToken token) {
+        if (queueFactory != null) {
+            return findMST(graph, new SolverWorkspace(queueFactory.get()), token);
+        }
+        
         operationsCount = 0;
         long startTime = System.nanoTime();
         
         List<Edge> mstEdges = new ArrayList<>();
-        int totalCost = 0;
+        long totalCost = 0;
         int vertices = graph.getVertices();
+        if (vertices == 0) {
+            return new MSTResult(mstEdges, totalCost, operationsCount, (System.nanoTime() - startTime) / 1_000_000.0);
+        }
+        PhaseTimer timer = new PhaseTimer(vertices, graph.getEdgeCount());
         
         // Build adjacency list
-        Map<String, List<EdgeWithNode>> adjacencyList = new HashMap<>();
-        for (String node : graph.getNodeNames()) {
-            adjacencyList.put(node, new ArrayList<>());
+        timer.start(MSTPhase.BUILD);
+        List<List<EdgeWithNode>> adjacencyList = new ArrayList<>(vertices);
+        for (int node = 0; node < vertices; node++) {
+            adjacencyList.add(new ArrayList<>());
             operationsCount++; // initialization
         }
         
-        for (Edge edge : graph.getEdges()) {
-            adjacencyList.get(edge.getFrom()).add(new EdgeWithNode(edge.getTo(), edge.getWeight()));
-            adjacencyList.get(edge.getTo()).add(new EdgeWithNode(edge.getFrom(), edge.getWeight()));
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            int from = graph.getEdgeFrom(e);
+            int to = graph.getEdgeTo(e);
+            int weight = graph.getEdge(e).getWeight();
+            adjacencyList.get(from).add(new EdgeWithNode(to, weight));
+            adjacencyList.get(to).add(new EdgeWithNode(from, weight));
             operationsCount += 2; // adding edges to adjacency list
         }
         
         // Prim's algorithm
-        Set<String> visited = new HashSet<>();
+        timer.start(MSTPhase.HEAP);
+        boolean[] visited = new boolean[vertices];
+        int[] visitedOrder = new int[vertices];
+        int visitedCount = 0;
         PriorityQueue<EdgeWithNode> pq = new PriorityQueue<>(Comparator.comparingInt(e -> e.weight));
         
         // Start from the first node
-        String startNode = graph.getNodeNames().get(0);
-        visited.add(startNode);
+        int startNode = 0;
+        visited[startNode] = true;
+        visitedOrder[visitedCount++] = startNode;
         operationsCount++; // adding start node to visited
         
         for (EdgeWithNode edge : adjacencyList.get(startNode)) {
@@ -40,56 +78,402 @@ public class PrimAlgorithm {
             operationsCount++; // adding to priority queue
         }
         
-        while (!pq.isEmpty() && visited.size() < vertices) {
+        boolean complete = true;
+        int edgesScanned = 0;
+        while (!pq.isEmpty() && visitedCount < vertices) {
+            // Every poll can be slow here, so the token is checked each time
+            if (token.isCancelled()) {
+                complete = false;
+                break;
+            }
             EdgeWithNode current = pq.poll();
             operationsCount++; // polling from priority queue
             
-            if (visited.contains(current.node)) {
+            if (visited[current.node]) {
                 operationsCount++; // checking if visited
                 continue;
             }
             
             // Find the edge that connects to this node from visited set
-            String fromNode = null;
-            for (String visitedNode : visited) {
+            int fromNode = -1;
+            for (int i = 0; i < visitedCount; i++) {
+                int visitedNode = visitedOrder[i];
                 for (EdgeWithNode edge : adjacencyList.get(visitedNode)) {
-                    if (edge.node.equals(current.node) && edge.weight == current.weight) {
+                    if (edge.node == current.node && edge.weight == current.weight) {
                         fromNode = visitedNode;
                         break;
                     }
                 }
-                if (fromNode != null) break;
+                if (fromNode >= 0) break;
             }
             
-            if (fromNode != null) {
-                mstEdges.add(new Edge(fromNode, current.node, current.weight));
+            if (fromNode >= 0) {
+                mstEdges.add(new Edge(graph.getNodeName(fromNode), graph.getNodeName(current.node), current.weight));
                 totalCost += current.weight;
                 operationsCount++; // adding edge to MST
             }
             
-            visited.add(current.node);
+            visited[current.node] = true;
+            visitedOrder[visitedCount++] = current.node;
             operationsCount++; // adding to visited
             
             for (EdgeWithNode edge : adjacencyList.get(current.node)) {
-                if (!visited.contains(edge.node)) {
+                edgesScanned++;
+                if (!visited[edge.node]) {
                     pq.offer(edge);
                     operationsCount++; // adding to priority queue
                 }
                 operationsCount++; // checking if visited
             }
         }
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs, complete, edgesScanned);
+    }
+    
+    /**
+     * Eager Prim on the int path using the workspace's arrays and queue, so
+     * repeated calls on one thread allocate only the result. Graphs with
+     * several components yield a spanning forest.
+     */
+    public MSTResult findMST(Graph graph, SolverWorkspace workspace) {
+        return findMST(graph, workspace, CancellationToken.NONE);
+    }
+    
+    /**
+     * Workspace variant of findMST(Graph, CancellationToken); the partial
+     * result is a forest of MST edges.
+     */
+    public MSTResult findMST(Graph graph, SolverWorkspace workspace, CancellationToken token) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        long totalCost = 0;
+        int mstSize = 0;
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), graph.getEdgeCount());
+        
+        timer.start(MSTPhase.BUILD);
+        workspace.load(graph);
+        int vertices = workspace.getVertices();
+        int edgeCount = workspace.getEdgeCount();
+        int[] offsets = workspace.getOffsets();
+        int[] adjacency = workspace.getAdjacency();
+        operationsCount += vertices + 2 * edgeCount; // building adjacency
+        
+        int maxWeight = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            maxWeight = Math.max(maxWeight, workspace.getWeight(e));
+        }
+        IndexedPriorityQueue queue = workspace.getQueue(maxWeight);
+        boolean[] inTree = workspace.getVisited();
+        int[] bestEdge = workspace.getBestEdges();
+        int[] selected = workspace.getSelectedEdges();
+        
+        // One tree per connected component
+        timer.start(MSTPhase.HEAP);
+        boolean complete = true;
+        int edgesScanned = 0;
+        int iteration = 0;
+        for (int root = 0; root < vertices && complete; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            int u = root;
+            while (true) {
+                if (token.shouldStop(iteration++)) {
+                    complete = false;
+                    break;
+                }
+                inTree[u] = true;
+                operationsCount++; // adding to tree
+                if (u != root) {
+                    int e = bestEdge[u];
+                    selected[mstSize++] = e;
+                    totalCost += workspace.getWeight(e);
+                    operationsCount++; // adding edge to MST
+                }
+                
+                edgesScanned += offsets[u + 1] - offsets[u];
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int e = adjacency[i];
+                    int v = workspace.other(e, u);
+                    operationsCount++; // checking if in tree
+                    if (inTree[v]) {
+                        continue;
+                    }
+                    int weight = workspace.getWeight(e);
+                    if (!queue.contains(v)) {
+                        bestEdge[v] = e;
+                        queue.insert(v, weight);
+                        operationsCount++; // inserting into priority queue
+                    } else if (weight < workspace.getWeight(bestEdge[v])) {
+                        bestEdge[v] = e;
+                        queue.decreaseKey(v, weight);
+                        operationsCount++; // decreasing key
+                    }
+                }
+                
+                if (queue.isEmpty()) {
+                    break;
+                }
+                u = queue.extractMin();
+                operationsCount++; // extracting from priority queue
+            }
+        }
+        List<Edge> mstEdges = workspace.collectSelected(mstSize);
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs, complete, edgesScanned);
+    }
+    
+    /**
+     * Eager Prim that decodes the compressed adjacency while relaxing. The
+     * compressed form keeps no Edge objects, so result edges are rebuilt from
+     * the vertex names. Graphs with several components yield a spanning forest.
+     */
+    public MSTResult findMST(CompressedGraph graph) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        
+        List<Edge> mstEdges = new ArrayList<>();
+        long totalCost = 0;
+        int vertices = graph.getVertices();
+        PhaseTimer timer = new PhaseTimer(vertices, graph.getEdgeCount());
+        
+        timer.start(MSTPhase.HEAP);
+        IndexedPriorityQueue queue = queueFactory != null ? queueFactory.get() : new DaryHeapQueue(4);
+        queue.reset(vertices, Math.max(0, graph.getMaxWeight()));
+        boolean[] inTree = new boolean[vertices];
+        int[] parent = new int[vertices];
+        int[] bestWeight = new int[vertices];
+        CompressedGraph.Cursor cursor = graph.cursor();
+        
+        int edgesScanned = 0;
+        for (int root = 0; root < vertices; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            int u = root;
+            while (true) {
+                inTree[u] = true;
+                operationsCount++; // adding to tree
+                if (u != root) {
+                    mstEdges.add(new Edge(graph.getNodeName(parent[u]), graph.getNodeName(u), bestWeight[u]));
+                    totalCost += bestWeight[u];
+                    operationsCount++; // adding edge to MST
+                }
+                
+                cursor.reset(u);
+                while (cursor.next()) {
+                    edgesScanned++;
+                    int v = cursor.neighbor();
+                    operationsCount++; // checking if in tree
+                    if (inTree[v]) {
+                        continue;
+                    }
+                    int weight = cursor.weight();
+                    if (!queue.contains(v)) {
+                        parent[v] = u;
+                        bestWeight[v] = weight;
+                        queue.insert(v, weight);
+                        operationsCount++; // inserting into priority queue
+                    } else if (weight < bestWeight[v]) {
+                        parent[v] = u;
+                        bestWeight[v] = weight;
+                        queue.decreaseKey(v, weight);
+                        operationsCount++; // decreasing key
+                    }
+                }
+                
+                if (queue.isEmpty()) {
+                    break;
+                }
+                u = queue.extractMin();
+                operationsCount++; // extracting from priority queue
+            }
+        }
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs, phaseTimesMs, true, edgesScanned);
+    }
+    
+    /**
+     * Eager Prim on long weights. A bounded-range queue cannot hold arbitrary
+     * long keys, so this path always uses a 4-ary heap rather than the
+     * configured queue. Graphs with several components yield a spanning forest.
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    public LongMSTResult findMST(LongWeightGraph graph, CancellationToken token) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        int edgeCount = graph.getEdgeCount();
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), edgeCount);
+        
+        timer.start(MSTPhase.BUILD);
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            keys[e] = graph.getWeight(e);
+        }
+        Forest forest = growForest(graph.getVertices(), from, to, keys, token, timer);
+        
+        long totalCost = 0;
+        for (int e : forest.selected) {
+            totalCost = Math.addExact(totalCost, graph.getWeight(e));
+        }
+        double[] phaseTimesMs = timer.getTimesMs();
+        
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+        
+        return new LongMSTResult(forest.selected, totalCost, operationsCount, executionTimeMs, phaseTimesMs,
+            forest.complete, forest.edgesScanned);
+    }
+    
+    /**
+     * Eager Prim on double weights, keyed by DoubleWeightGraph.orderedBits so
+     * the heap compares longs. Uses a 4-ary heap like the long path.
+     */
+    public DoubleMSTResult findMST(DoubleWeightGraph graph, CancellationToken token) {
+        operationsCount = 0;
+        long startTime = System.nanoTime();
+        int edgeCount = graph.getEdgeCount();
+        PhaseTimer timer = new PhaseTimer(graph.getVertices(), edgeCount);
+        
+        timer.start(MSTPhase.BUILD);
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            keys[e] = DoubleWeightGraph.orderedBits(graph.getWeight(e));
+        }
+        Forest forest = growForest(graph.getVertices(), from, to, keys, token, timer);
+        double totalCost = DoubleMSTResult.totalCost(graph, forest.selected);
+        double[] phaseTimesMs = timer.getTimesMs();
         
         long endTime = System.nanoTime();
         double executionTimeMs = (endTime - startTime) / 1_000_000.0;
         
-        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+        return new DoubleMSTResult(forest.selected, totalCost, operationsCount, executionTimeMs, phaseTimesMs,
+            forest.complete, forest.edgesScanned);
+    }
+    
+    /**
+     * Shared eager loop of the long and double paths over edge keys that
+     * order like the weights.
+     */
+    private Forest growForest(int vertices, int[] from, int[] to, long[] keys, CancellationToken token,
+                             PhaseTimer timer) {
+        int edgeCount = keys.length;
+        int[] offsets = new int[vertices + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+            offsets[to[e] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] fill = Arrays.copyOf(offsets, vertices);
+        int[] adjacency = new int[2 * edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            adjacency[fill[from[e]]++] = e;
+            adjacency[fill[to[e]]++] = e;
+        }
+        operationsCount += vertices + 2 * edgeCount; // building adjacency
+        
+        timer.start(MSTPhase.HEAP);
+        IndexedPriorityQueue queue = new DaryHeapQueue(4);
+        queue.reset(vertices, Long.MAX_VALUE);
+        boolean[] inTree = new boolean[vertices];
+        int[] bestEdge = new int[vertices];
+        int[] selected = new int[Math.max(0, vertices - 1)];
+        int mstSize = 0;
+        
+        boolean complete = true;
+        int edgesScanned = 0;
+        int iteration = 0;
+        for (int root = 0; root < vertices && complete; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            int u = root;
+            while (true) {
+                if (token.shouldStop(iteration++)) {
+                    complete = false;
+                    break;
+                }
+                inTree[u] = true;
+                operationsCount++; // adding to tree
+                if (u != root) {
+                    selected[mstSize++] = bestEdge[u];
+                    operationsCount++; // adding edge to MST
+                }
+                
+                edgesScanned += offsets[u + 1] - offsets[u];
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int e = adjacency[i];
+                    int v = from[e] == u ? to[e] : from[e];
+                    operationsCount++; // checking if in tree
+                    if (inTree[v]) {
+                        continue;
+                    }
+                    long key = keys[e];
+                    if (!queue.contains(v)) {
+                        bestEdge[v] = e;
+                        queue.insert(v, key);
+                        operationsCount++; // inserting into priority queue
+                    } else if (key < keys[bestEdge[v]]) {
+                        bestEdge[v] = e;
+                        queue.decreaseKey(v, key);
+                        operationsCount++; // decreasing key
+                    }
+                }
+                
+                if (queue.isEmpty()) {
+                    break;
+                }
+                u = queue.extractMin();
+                operationsCount++; // extracting from priority queue
+            }
+        }
+        return new Forest(Arrays.copyOf(selected, mstSize), complete, edgesScanned);
+    }
+    
+    /**
+     * Outcome of growForest: selected edge indices, whether the loop ran to
+     * the end, and how many adjacency entries it examined.
+     */
+    private static class Forest {
+        final int[] selected;
+        final boolean complete;
+        final int edgesScanned;
+        
+        Forest(int[] selected, boolean complete, int edgesScanned) {
+            this.selected = selected;
+            this.complete = complete;
+            this.edgesScanned = edgesScanned;
+        }
     }
     
     private static class EdgeWithNode {
-        String node;
+        int node;
         int weight;
         
-        EdgeWithNode(String node, int weight) {
+        EdgeWithNode(int node, int weight) {
             this.node = node;
             this.weight = weight;
         }
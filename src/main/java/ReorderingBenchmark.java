@@ -0,0 +1,93 @@
+package main.java;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Effect of vertex reordering on the int-indexed Prim and Kruskal per graph
+ * family. Each graph is first shuffled into a random vertex order, the way an
+ * arbitrary input file would number it, and then reordered by each strategy.
+ *
+ * Java has no portable access to hardware cache-miss counters, so locality
+ * is reported through two proxies computed from the edge list: the mean
+ * log2 distance between endpoint ids, and the share of edges whose endpoints
+ * lie within 16 ids (one 64-byte line of int vertex state). To count real
+ * misses, run this class under `perf stat -e cache-misses,cache-references`.
+ */
+public class ReorderingBenchmark {
+    private static final int VERTICES = 500_000;
+    private static final int AVERAGE_DEGREE = 8;
+    private static final int MEASURED_RUNS = 3;
+    
+    public static void main(String[] args) {
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        Random random = new Random(42);
+        
+        System.out.println("=".repeat(100));
+        System.out.println("Vertex Reordering Benchmark (V = " + VERTICES + ", median of " + MEASURED_RUNS + " runs, ms)");
+        System.out.println("=".repeat(100));
+        System.out.printf("%-16s %-10s %11s %10s %10s %10s %10s\n",
+            "Family", "Order", "Reorder", "Log span", "Within 16", "Prim", "Kruskal");
+        System.out.println("-".repeat(100));
+        
+        GraphGenerator.GraphFamily[] families = {
+            GraphGenerator.GraphFamily.UNIFORM_RANDOM, GraphGenerator.GraphFamily.BARABASI_ALBERT,
+            GraphGenerator.GraphFamily.RMAT, GraphGenerator.GraphFamily.GRID, GraphGenerator.GraphFamily.CLUSTERED
+        };
+        for (GraphGenerator.GraphFamily family : families) {
+            GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec(family.name().toLowerCase(),
+                VERTICES, VERTICES * AVERAGE_DEGREE / 2, 1_000_000, family, GraphGenerator.WeightDistribution.UNIFORM);
+            Graph generated = generator.generateGraph(spec);
+            
+            int[] shuffle = new int[generated.getVertices()];
+            for (int i = 0; i < shuffle.length; i++) {
+                shuffle[i] = i;
+            }
+            for (int i = shuffle.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = shuffle[i];
+                shuffle[i] = shuffle[j];
+                shuffle[j] = tmp;
+            }
+            Graph shuffled = VertexReordering.relabel(generated, shuffle);
+            long expectedCost = kruskal.findMST(shuffled, workspace).getTotalCost();
+            
+            report(spec.getName(), "generated", 0, generated, expectedCost, prim, kruskal, workspace);
+            report("", "shuffled", 0, shuffled, expectedCost, prim, kruskal, workspace);
+            for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+                long start = System.nanoTime();
+                Graph reordered = VertexReordering.reorder(shuffled, strategy);
+                double reorderMs = (System.nanoTime() - start) / 1_000_000.0;
+                report("", strategy.getLabel(), reorderMs, reordered, expectedCost, prim, kruskal, workspace);
+            }
+        }
+        
+        System.out.println("=".repeat(100));
+    }
+    
+    private static void report(String family, String order, double reorderMs, Graph graph, long expectedCost,
+                               PrimAlgorithm prim, KruskalAlgorithm kruskal, SolverWorkspace workspace) {
+        double primMs = medianTime(g -> prim.findMST(g, workspace), graph, expectedCost);
+        double kruskalMs = medianTime(g -> kruskal.findMST(g, workspace), graph, expectedCost);
+        System.out.printf("%-16s %-10s %11s %10.2f %9.1f%% %10.2f %10.2f\n", family, order,
+            reorderMs > 0 ? String.format("%.2f", reorderMs) : "-",
+            VertexReordering.meanLogSpan(graph), 100 * VertexReordering.fractionWithin(graph, 16), primMs, kruskalMs);
+    }
+    
+    private static double medianTime(Function<Graph, MSTResult> solver, Graph graph, long expectedCost) {
+        solver.apply(graph);
+        double[] times = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            MSTResult result = solver.apply(graph);
+            if (result.getTotalCost() != expectedCost) {
+                throw new IllegalStateException("MST cost mismatch");
+            }
+            times[i] = result.getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+}
@@ -0,0 +1,38 @@
+package main.java;
+
+/**
+ * Plain loops; runs on every JVM and is the fallback when the Vector API
+ * kernel is not available.
+ */
+public class ScalarDensePrimKernel implements DensePrimKernel {
+    
+    @Override
+    public int argMin(int[] key, int n) {
+        int best = -1;
+        int bestKey = Integer.MAX_VALUE;
+        for (int v = 0; v < n; v++) {
+            int k = key[v];
+            if (k != Integer.MIN_VALUE && (best < 0 || k < bestKey)) {
+                best = v;
+                bestKey = k;
+            }
+        }
+        return best;
+    }
+    
+    @Override
+    public void relax(int[] weights, int offset, int[] key, int[] parent, int u, int n) {
+        for (int v = 0; v < n; v++) {
+            int w = weights[offset + v];
+            if (w < key[v]) {
+                key[v] = w;
+                parent[v] = u;
+            }
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,269 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Single-linkage clustering of a graph for every distance threshold at once,
+ * built from the minimum spanning tree. Replaying the MST edges in Kruskal
+ * order gives the Kruskal reconstruction tree: vertices are its leaves, and
+ * each merge adds an internal node whose height is the merge weight, so
+ * heights grow towards the root.
+ *
+ * The clusters at threshold t are the components of the graph restricted to
+ * edges of weight <= t. Each one is an internal node (or a leaf) of the tree:
+ * the highest ancestor of a vertex with height <= t, found by binary lifting.
+ * Nodes are numbered in merge order, so "height <= t" is "id below a limit"
+ * found once by binary search, and the lifting reads only the jump table,
+ * laid out per node so that the levels of one node share cache lines.
+ * Every leaf range of a node is contiguous in one DFS order, so membership is
+ * a slice of that order. Cluster ids are tree node ids and stay the same
+ * across thresholds as long as the cluster does.
+ */
+public class SingleLinkageDendrogram {
+    private final Graph graph;
+    private final int vertices;
+    private final int merges;
+    private final int[] height;        // weight of the i-th merge = height of node vertices + i; non-decreasing
+    private final int levels;
+    private final int[] jump;          // node-major: jump[node * levels + k] is the 2^k-th ancestor
+    private final int[] leafStart;     // first position of a node's leaves in leafOrder
+    private final int[] leafCount;
+    private final int[] leafOrder;
+    
+    /**
+     * @param graph graph the tree was computed on; supplies the vertex numbering
+     * @param mst   minimum spanning tree or forest of graph
+     */
+    public SingleLinkageDendrogram(Graph graph, MSTResult mst) {
+        this.graph = graph;
+        this.vertices = graph.getVertices();
+        
+        // MST edges in Kruskal order
+        List<Edge> edges = mst.getMstEdges();
+        long[] keys = new long[edges.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) edges.get(i).getWeight() << 32) | i;
+        }
+        Arrays.sort(keys);
+        
+        int nodes = vertices + keys.length;
+        int[] parent = new int[nodes];
+        int[] left = new int[keys.length];
+        int[] right = new int[keys.length];
+        height = new int[keys.length];
+        leafCount = new int[nodes];
+        int[] clusterNode = new int[vertices]; // tree node of each union-find root
+        for (int v = 0; v < vertices; v++) {
+            parent[v] = v;
+            clusterNode[v] = v;
+            leafCount[v] = 1;
+        }
+        UnionFind uf = new UnionFind(vertices);
+        int created = 0;
+        for (long key : keys) {
+            Edge edge = edges.get((int) key);
+            int rootA = uf.find(graph.getNodeIndex(edge.getFrom()));
+            int rootB = uf.find(graph.getNodeIndex(edge.getTo()));
+            if (rootA == rootB) {
+                throw new IllegalArgumentException("MST edges form a cycle at " + edge);
+            }
+            int node = vertices + created;
+            left[created] = clusterNode[rootA];
+            right[created] = clusterNode[rootB];
+            height[created] = edge.getWeight();
+            parent[node] = node;
+            parent[left[created]] = node;
+            parent[right[created]] = node;
+            leafCount[node] = leafCount[left[created]] + leafCount[right[created]];
+            uf.union(rootA, rootB);
+            clusterNode[uf.find(rootA)] = node;
+            created++;
+        }
+        merges = created;
+        
+        // Leaf ranges, parents before children
+        leafStart = new int[nodes];
+        leafOrder = new int[vertices];
+        int next = 0;
+        for (int node = nodes - 1; node >= 0; node--) {
+            if (parent[node] == node) {
+                leafStart[node] = next;
+                next += leafCount[node];
+            }
+            if (node >= vertices) {
+                int i = node - vertices;
+                leafStart[left[i]] = leafStart[node];
+                leafStart[right[i]] = leafStart[node] + leafCount[left[i]];
+            } else {
+                leafOrder[leafStart[node]] = node;
+            }
+        }
+        
+        // Jump table; roots point to themselves. Built one level at a time,
+        // which reads the previous level far more cache-friendly than row by row
+        levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, nodes - 1)));
+        if ((long) nodes * levels > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many vertices for the jump table: " + vertices);
+        }
+        jump = new int[nodes * levels];
+        int[] previous = Arrays.copyOf(parent, nodes);
+        int[] current = new int[nodes];
+        for (int node = 0; node < nodes; node++) {
+            jump[node * levels] = parent[node];
+        }
+        for (int k = 1; k < levels; k++) {
+            for (int node = 0; node < nodes; node++) {
+                current[node] = previous[previous[node]];
+                jump[node * levels + k] = current[node];
+            }
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
+        }
+    }
+    
+    public int getVertices() {
+        return vertices;
+    }
+    
+    /**
+     * Number of merges, i.e. MST edges; vertices - merges clusters remain at the top.
+     */
+    public int getMerges() {
+        return merges;
+    }
+    
+    /**
+     * Number of clusters when vertices closer than or at threshold are linked.
+     */
+    public int componentCount(int threshold) {
+        return vertices - mergesUpTo(threshold);
+    }
+    
+    /**
+     * componentCount for many thresholds. Each is a binary search over the
+     * merge weights (4 bytes per vertex), which stays cache-resident for a
+     * long batch and is faster than sorting the thresholds for a sweep.
+     */
+    public int[] componentCounts(int[] thresholds) {
+        int[] counts = new int[thresholds.length];
+        for (int i = 0; i < thresholds.length; i++) {
+            counts[i] = componentCount(thresholds[i]);
+        }
+        return counts;
+    }
+    
+    /**
+     * Id of the cluster containing vertex v at threshold.
+     */
+    public int clusterOf(int v, int threshold) {
+        return highestBelow(v, vertices + mergesUpTo(threshold));
+    }
+    
+    public int clusterOf(String name, int threshold) {
+        return clusterOf(graph.getNodeIndex(name), threshold);
+    }
+    
+    /**
+     * clusterOf for pairs (vertices[i], thresholds[i]).
+     */
+    public int[] clustersOf(int[] vertices, int[] thresholds) {
+        if (vertices.length != thresholds.length) {
+            throw new IllegalArgumentException("Query arrays must have the same length");
+        }
+        int[] clusters = new int[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            clusters[i] = clusterOf(vertices[i], thresholds[i]);
+        }
+        return clusters;
+    }
+    
+    public boolean sameCluster(int u, int v, int threshold) {
+        return clusterOf(u, threshold) == clusterOf(v, threshold);
+    }
+    
+    public int clusterSize(int cluster) {
+        return leafCount[cluster];
+    }
+    
+    /**
+     * Vertex ids of a cluster returned by clusterOf or cutToK.
+     */
+    public int[] getMembers(int cluster) {
+        return Arrays.copyOfRange(leafOrder, leafStart[cluster], leafStart[cluster] + leafCount[cluster]);
+    }
+    
+    public List<String> getMemberNames(int cluster) {
+        List<String> names = new ArrayList<>(leafCount[cluster]);
+        for (int i = leafStart[cluster]; i < leafStart[cluster] + leafCount[cluster]; i++) {
+            names.add(graph.getNodeName(leafOrder[i]));
+        }
+        return names;
+    }
+    
+    /**
+     * Smallest threshold with at most k clusters, or Integer.MIN_VALUE if
+     * no merge is needed.
+     * @throws IllegalArgumentException if the forest never gets down to k clusters
+     */
+    public int thresholdForClusters(int k) {
+        int needed = vertices - k;
+        if (k < 1 || needed > merges) {
+            throw new IllegalArgumentException("Cannot cut into " + k + " clusters; at least "
+                + (vertices - merges) + " remain");
+        }
+        return needed <= 0 ? Integer.MIN_VALUE : height[needed - 1];
+    }
+    
+    /**
+     * Ids of exactly k clusters: the state after the first vertices - k
+     * merges in Kruskal order, which splits ties at the cut weight
+     * deterministically. O(k log V).
+     */
+    public int[] cutToK(int k) {
+        int needed = vertices - k;
+        if (k < 1 || needed > merges || needed < 0) {
+            throw new IllegalArgumentException("Cannot cut " + vertices + " vertices into " + k + " clusters");
+        }
+        // Walk the leaf order; each cluster is the highest ancestor created by merge index < needed
+        int[] clusters = new int[k];
+        int found = 0;
+        int position = 0;
+        while (position < vertices) {
+            int node = highestBelow(leafOrder[position], vertices + needed);
+            clusters[found++] = node;
+            position += leafCount[node];
+        }
+        return clusters;
+    }
+    
+    /**
+     * Highest ancestor of node whose id is below limit.
+     */
+    private int highestBelow(int node, int limit) {
+        for (int k = levels - 1; k >= 0; k--) {
+            int up = jump[node * levels + k];
+            if (up < limit) {
+                node = up;
+            }
+        }
+        return node;
+    }
+    
+    /**
+     * Number of merges with weight <= threshold.
+     */
+    private int mergesUpTo(int threshold) {
+        int low = 0;
+        int high = merges;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (height[middle] <= threshold) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,241 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Scratch memory for the int-indexed Prim and Kruskal paths: endpoint and
+ * weight arrays, CSR adjacency, sort keys, union-find, heap, visited flags
+ * and the buffer of selected edge ids. Arrays only grow, so once a workspace
+ * has seen the largest graph of a batch, solving further graphs allocates
+ * nothing but the MSTResult and its edge list.
+ *
+ * A workspace is not thread-safe; use one per thread, e.g. through
+ * forCurrentThread().
+ */
+public class SolverWorkspace {
+    private static final ThreadLocal<SolverWorkspace> CURRENT = ThreadLocal.withInitial(SolverWorkspace::new);
+    
+    private final IndexedPriorityQueue queue;
+    private final UnionFind unionFind = new UnionFind(0);
+    
+    // Loaded graph
+    private int vertices;
+    private int edgeCount;
+    private Edge[] edges = new Edge[0];
+    private int[] from = new int[0];
+    private int[] to = new int[0];
+    private int[] weight = new int[0];
+    private int[] offsets = new int[1];
+    private int[] adjacency = new int[0];
+    private boolean adjacencyBuilt;
+    
+    // Solver scratch
+    private long[] sortKeys = new long[0];
+    private boolean[] visited = new boolean[0];
+    private int[] bestEdge = new int[0];
+    private int[] selected = new int[0];
+    private int growCount;
+    
+    public SolverWorkspace() {
+        this(new DaryHeapQueue(4));
+    }
+    
+    public SolverWorkspace(IndexedPriorityQueue queue) {
+        this.queue = queue;
+    }
+    
+    /**
+     * Workspace owned by the calling thread, created on first use.
+     */
+    public static SolverWorkspace forCurrentThread() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Copies the graph into the workspace arrays, growing them if needed.
+     */
+    public void load(Graph graph) {
+        int count = graph.getEdgeCount();
+        if (edges.length < count) {
+            edges = new Edge[count];
+            from = new int[count];
+            to = new int[count];
+            weight = new int[count];
+            growCount++;
+        } else if (count < edgeCount) {
+            Arrays.fill(edges, count, edgeCount, null); // don't keep the previous graph reachable
+        }
+        for (int e = 0; e < count; e++) {
+            Edge edge = graph.getEdge(e);
+            edges[e] = edge;
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            weight[e] = edge.getWeight();
+        }
+        vertices = graph.getVertices();
+        edgeCount = count;
+        adjacencyBuilt = false;
+    }
+    
+    public int getVertices() {
+        return vertices;
+    }
+    
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+    
+    public Edge getEdge(int e) {
+        return edges[e];
+    }
+    
+    public int getFrom(int e) {
+        return from[e];
+    }
+    
+    public int getTo(int e) {
+        return to[e];
+    }
+    
+    public int getWeight(int e) {
+        return weight[e];
+    }
+    
+    public int other(int e, int v) {
+        return from[e] == v ? to[e] : from[e];
+    }
+    
+    /**
+     * Same key as IndexedGraph.edgeKey: weight, then edge id in the low 32 bits.
+     */
+    public long edgeKey(int e) {
+        return ((long) weight[e] << 32) | e;
+    }
+    
+    /**
+     * CSR offsets of the loaded graph; see IndexedGraph.getOffsets().
+     */
+    public int[] getOffsets() {
+        if (!adjacencyBuilt) {
+            buildAdjacency();
+        }
+        return offsets;
+    }
+    
+    public int[] getAdjacency() {
+        if (!adjacencyBuilt) {
+            buildAdjacency();
+        }
+        return adjacency;
+    }
+    
+    /**
+     * Sort key buffer with room for every edge of the loaded graph.
+     */
+    public long[] getSortKeys() {
+        if (sortKeys.length < edgeCount) {
+            sortKeys = new long[edgeCount];
+            growCount++;
+        }
+        return sortKeys;
+    }
+    
+    /**
+     * Union-find reset to singletons over the loaded graph's vertices.
+     */
+    public UnionFind getUnionFind() {
+        unionFind.reset(vertices);
+        return unionFind;
+    }
+    
+    /**
+     * Priority queue reset for the loaded graph's vertices.
+     */
+    public IndexedPriorityQueue getQueue(long maxKey) {
+        queue.reset(vertices, maxKey);
+        return queue;
+    }
+    
+    /**
+     * Per-vertex flags, all false.
+     */
+    public boolean[] getVisited() {
+        if (visited.length < vertices) {
+            visited = new boolean[vertices];
+            growCount++;
+        } else {
+            Arrays.fill(visited, 0, vertices, false);
+        }
+        return visited;
+    }
+    
+    /**
+     * Per-vertex edge ids; contents are left over from earlier solves.
+     */
+    public int[] getBestEdges() {
+        if (bestEdge.length < vertices) {
+            bestEdge = new int[vertices];
+            growCount++;
+        }
+        return bestEdge;
+    }
+    
+    /**
+     * Buffer for the ids of selected MST edges, at most one per vertex.
+     */
+    public int[] getSelectedEdges() {
+        if (selected.length < vertices) {
+            selected = new int[vertices];
+            growCount++;
+        }
+        return selected;
+    }
+    
+    /**
+     * The first count selected edges as the result list; the only per-solve allocation.
+     */
+    public List<Edge> collectSelected(int count) {
+        List<Edge> mstEdges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mstEdges.add(edges[selected[i]]);
+        }
+        return mstEdges;
+    }
+    
+    /**
+     * Number of times an array had to grow; stays flat in a steady-state batch.
+     */
+    public int getGrowCount() {
+        return growCount;
+    }
+    
+    private void buildAdjacency() {
+        if (offsets.length < vertices + 1) {
+            offsets = new int[vertices + 1];
+            growCount++;
+        }
+        if (adjacency.length < 2 * edgeCount) {
+            adjacency = new int[2 * edgeCount];
+            growCount++;
+        }
+        Arrays.fill(offsets, 0, vertices + 1, 0);
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+            offsets[to[e] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        // Shift by one: filling then advances offsets[v + 1] from the start of
+        // v's range to its end, which is exactly the start of v + 1
+        for (int v = vertices; v > 0; v--) {
+            offsets[v] = offsets[v - 1];
+        }
+        offsets[0] = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            adjacency[offsets[from[e] + 1]++] = e;
+            adjacency[offsets[to[e] + 1]++] = e;
+        }
+        adjacencyBuilt = true;
+    }
+}
@@ -0,0 +1,92 @@
+package main.java;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Counters for one stage of a queue-connected pipeline: items handled, time
+ * spent working, time stalled waiting for input (starved) or for room in the
+ * next queue (blocked), and the depth of the output queue after each hand-off.
+ *
+ * Each instance is updated by its stage's thread only; read it after the
+ * stage has finished.
+ */
+public class StageMetrics {
+    private final String name;
+    private int items;
+    private long busyNanos;
+    private long starvedNanos;
+    private long blockedNanos;
+    private int maxQueueDepth;
+    private long queueDepthSum;
+    private int queueSamples;
+    
+    public StageMetrics(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Takes the next input, counting the wait as starved time.
+     */
+    public <T> T take(BlockingQueue<T> queue) throws InterruptedException {
+        long start = System.nanoTime();
+        T item = queue.take();
+        starvedNanos += System.nanoTime() - start;
+        return item;
+    }
+    
+    /**
+     * Hands an item to the next stage, counting the wait as blocked time.
+     */
+    public <T> void put(BlockingQueue<T> queue, T item) throws InterruptedException {
+        long start = System.nanoTime();
+        queue.put(item);
+        blockedNanos += System.nanoTime() - start;
+        int depth = queue.size();
+        maxQueueDepth = Math.max(maxQueueDepth, depth);
+        queueDepthSum += depth;
+        queueSamples++;
+    }
+    
+    /**
+     * Records one item that took the given time to process.
+     */
+    public void recordItem(long nanos) {
+        items++;
+        busyNanos += nanos;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getItems() {
+        return items;
+    }
+    
+    public double getBusyMs() {
+        return busyNanos / 1_000_000.0;
+    }
+    
+    public double getStarvedMs() {
+        return starvedNanos / 1_000_000.0;
+    }
+    
+    public double getBlockedMs() {
+        return blockedNanos / 1_000_000.0;
+    }
+    
+    /**
+     * Whether the stage has an output queue; the last stage has none.
+     */
+    public boolean hasQueue() {
+        return queueSamples > 0;
+    }
+    
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+    
+    public double getMeanQueueDepth() {
+        return queueSamples == 0 ? 0 : (double) queueDepthSum / queueSamples;
+    }
+}
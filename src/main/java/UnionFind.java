@@ -0,0 +1,77 @@
+package main.java;
+
+/**
+ * Sequential union-find over vertex indices with union by rank and path
+ * halving. Primitive counterpart of the String-keyed structure inside
+ * KruskalAlgorithm.
+ */
+public class UnionFind {
+    private int[] parent;
+    private byte[] rank;
+    private int size;
+    private int components;
+    
+    public UnionFind(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        reset(size);
+    }
+    
+    /**
+     * Makes every element of 0..size-1 a singleton again, reusing the arrays
+     * when they are large enough.
+     */
+    public void reset(int size) {
+        if (parent.length < size) {
+            parent = new int[size];
+            rank = new byte[size];
+        }
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+            rank[i] = 0;
+        }
+        this.size = size;
+        components = size;
+    }
+    
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // path halving
+            x = parent[x];
+        }
+        return x;
+    }
+    
+    /**
+     * @return true if a and b were in different sets and have been merged
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        components--;
+        return true;
+    }
+    
+    public boolean isConnected(int a, int b) {
+        return find(a) == find(b);
+    }
+    
+    public int getComponents() {
+        return components;
+    }
+    
+    public int size() {
+        return size;
+    }
+}
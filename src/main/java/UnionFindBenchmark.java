@@ -0,0 +1,99 @@
+package main.java;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Throughput of the sequential UnionFind against ConcurrentUnionFind with
+ * increasing thread counts, on the same random stream of union and
+ * connectivity operations.
+ */
+public class UnionFindBenchmark {
+    private static final int ELEMENTS = 1_000_000;
+    private static final int OPERATIONS = 4_000_000;
+    private static final int RUNS = 5;
+    
+    public static void main(String[] args) throws Exception {
+        System.out.println("=".repeat(60));
+        System.out.println("Union-Find Throughput");
+        System.out.println("=".repeat(60));
+        System.out.printf("Elements: %d, operations: %d (50%% union, 50%% connected)\n\n", ELEMENTS, OPERATIONS);
+        
+        Random random = new Random(42); // Fixed seed for reproducibility
+        int[] a = new int[OPERATIONS];
+        int[] b = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            a[i] = random.nextInt(ELEMENTS);
+            b[i] = random.nextInt(ELEMENTS);
+        }
+        
+        double sequential = bestOf(() -> runSequential(a, b));
+        System.out.printf("%-28s %10.2f Mops/s\n", "UnionFind (sequential)", sequential);
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            int t = threads;
+            double index = bestOf(() -> runConcurrent(new ConcurrentUnionFind(ELEMENTS), a, b, t));
+            double randomized = bestOf(() -> runConcurrent(new ConcurrentUnionFind(ELEMENTS, 7), a, b, t));
+            System.out.printf("%-28s %10.2f Mops/s (%.2fx)\n", "Concurrent, index, " + t + " thr", index, index / sequential);
+            System.out.printf("%-28s %10.2f Mops/s (%.2fx)\n", "Concurrent, random, " + t + " thr", randomized, randomized / sequential);
+        }
+        
+        System.out.println("=".repeat(60));
+    }
+    
+    private static double bestOf(Callable<Double> run) throws Exception {
+        double best = 0;
+        for (int i = 0; i < RUNS; i++) {
+            best = Math.max(best, run.call());
+        }
+        return best;
+    }
+    
+    private static double runSequential(int[] a, int[] b) {
+        UnionFind uf = new UnionFind(ELEMENTS);
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            if ((i & 1) == 0) {
+                uf.union(a[i], b[i]);
+            } else {
+                uf.isConnected(a[i], b[i]);
+            }
+        }
+        return throughput(start);
+    }
+    
+    private static double runConcurrent(ConcurrentUnionFind uf, int[] a, int[] b, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            int chunk = (OPERATIONS + threads - 1) / threads;
+            for (int t = 0; t < threads; t++) {
+                int from = t * chunk;
+                int to = Math.min(from + chunk, OPERATIONS);
+                tasks.add(() -> {
+                    for (int i = from; i < to; i++) {
+                        if ((i & 1) == 0) {
+                            uf.union(a[i], b[i]);
+                        } else {
+                            uf.isConnected(a[i], b[i]);
+                        }
+                    }
+                    return null;
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+            return throughput(start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    private static double throughput(long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return OPERATIONS / seconds / 1e6;
+    }
+}
@@ -0,0 +1,227 @@
+package main.java;
+
+import java.util.*;
+
+/**
+ * Relabels the vertices of a graph so that vertices close in the graph get
+ * close ids, and sorts the edges by their new endpoints. Solvers then touch
+ * per-vertex state (keys, visited flags, union-find parents) in nearby
+ * memory instead of at random. The reordered graph keeps the node names and
+ * the original Edge objects, so any MSTResult computed on it refers to the
+ * input graph directly; no mapping back is needed.
+ */
+public class VertexReordering {
+    
+    public enum Strategy {
+        /** Breadth-first order, one component after another. */
+        BFS,
+        /** Reverse Cuthill-McKee: BFS from a low-degree vertex, neighbors by degree, reversed. */
+        RCM,
+        /** Highest degree first, so hub state is packed together. */
+        DEGREE;
+        
+        public String getLabel() {
+            return name().toLowerCase();
+        }
+        
+        public static Strategy fromLabel(String label) {
+            for (Strategy strategy : values()) {
+                if (strategy.getLabel().equals(label)) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Unknown reordering strategy: " + label);
+        }
+    }
+    
+    private VertexReordering() {
+    }
+    
+    /**
+     * Vertex order for the graph: order[newId] is the old id.
+     */
+    public static int[] order(Graph graph, Strategy strategy) {
+        IndexedGraph g = IndexedGraph.of(graph);
+        switch (strategy) {
+            case BFS:
+                return breadthFirst(g, false);
+            case RCM:
+                int[] order = breadthFirst(g, true);
+                for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                }
+                return order;
+            case DEGREE:
+                return byDegree(g);
+            default:
+                throw new IllegalArgumentException("Unknown reordering strategy: " + strategy);
+        }
+    }
+    
+    /**
+     * The graph with vertices renumbered by the strategy and edges sorted by
+     * their lower, then higher, new endpoint.
+     */
+    public static Graph reorder(Graph graph, Strategy strategy) {
+        return relabel(graph, order(graph, strategy));
+    }
+    
+    /**
+     * The graph with vertex order[i] renumbered to i; order must be a permutation.
+     */
+    public static Graph relabel(Graph graph, int[] order) {
+        int n = graph.getVertices();
+        if (order.length != n) {
+            throw new IllegalArgumentException("Order has " + order.length + " entries for " + n + " vertices");
+        }
+        int[] newId = new int[n];
+        Arrays.fill(newId, -1);
+        List<String> names = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            if (newId[order[i]] >= 0) {
+                throw new IllegalArgumentException("Order is not a permutation: " + order[i] + " appears twice");
+            }
+            newId[order[i]] = i;
+            names.add(graph.getNodeName(order[i]));
+        }
+        
+        // Counting sort by lower endpoint, then by higher endpoint within each bucket
+        int count = graph.getEdgeCount();
+        long[] keys = new long[count];
+        int[] start = new int[n + 1];
+        for (int e = 0; e < count; e++) {
+            start[Math.min(newId[graph.getEdgeFrom(e)], newId[graph.getEdgeTo(e)]) + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = Arrays.copyOf(start, n);
+        for (int e = 0; e < count; e++) {
+            int u = newId[graph.getEdgeFrom(e)];
+            int v = newId[graph.getEdgeTo(e)];
+            keys[fill[Math.min(u, v)]++] = ((long) Math.max(u, v) << 32) | e;
+        }
+        for (int v = 0; v < n; v++) {
+            Arrays.sort(keys, start[v], start[v + 1]);
+        }
+        
+        List<Edge> edges = new ArrayList<>(count);
+        int[] from = new int[count];
+        int[] to = new int[count];
+        for (int i = 0; i < count; i++) {
+            int e = (int) keys[i];
+            edges.add(graph.getEdge(e));
+            from[i] = newId[graph.getEdgeFrom(e)];
+            to[i] = newId[graph.getEdgeTo(e)];
+        }
+        return new Graph(new NodeDictionary(names), edges, from, to);
+    }
+    
+    /**
+     * Mean of log2(1 + |id(u) - id(v)|) over the edges: a locality proxy,
+     * lower when edge endpoints share or neighbor cache lines.
+     */
+    public static double meanLogSpan(Graph graph) {
+        double sum = 0;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            sum += Math.log(1 + Math.abs(graph.getEdgeFrom(e) - graph.getEdgeTo(e)));
+        }
+        return graph.getEdgeCount() == 0 ? 0 : sum / graph.getEdgeCount() / Math.log(2);
+    }
+    
+    /**
+     * Fraction of edges whose endpoint ids differ by less than span.
+     */
+    public static double fractionWithin(Graph graph, int span) {
+        int near = 0;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            if (Math.abs(graph.getEdgeFrom(e) - graph.getEdgeTo(e)) < span) {
+                near++;
+            }
+        }
+        return graph.getEdgeCount() == 0 ? 0 : (double) near / graph.getEdgeCount();
+    }
+    
+    /**
+     * BFS over every component. With byDegree, each component starts from its
+     * lowest-degree vertex and neighbors are visited in increasing degree
+     * (Cuthill-McKee); otherwise components start at their lowest id and
+     * neighbors are visited in adjacency order.
+     */
+    private static int[] breadthFirst(IndexedGraph g, boolean byDegree) {
+        int n = g.getVertices();
+        int[] offsets = g.getOffsets();
+        int[] adjacency = g.getAdjacency();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        
+        int[] starts = byDegree ? byDegree(g) : null;
+        if (starts != null) {
+            // Lowest degree first
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                int tmp = starts[i];
+                starts[i] = starts[j];
+                starts[j] = tmp;
+            }
+        }
+        long[] neighbors = new long[0];
+        int tail = 0;
+        for (int s = 0; s < n; s++) {
+            int root = starts == null ? s : starts[s];
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            int head = tail;
+            order[tail++] = root;
+            while (head < tail) {
+                int u = order[head++];
+                if (!byDegree) {
+                    for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                        int v = g.other(adjacency[i], u);
+                        if (!visited[v]) {
+                            visited[v] = true;
+                            order[tail++] = v;
+                        }
+                    }
+                    continue;
+                }
+                int degree = offsets[u + 1] - offsets[u];
+                if (neighbors.length < degree) {
+                    neighbors = new long[degree];
+                }
+                int found = 0;
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int v = g.other(adjacency[i], u);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        neighbors[found++] = ((long) (offsets[v + 1] - offsets[v]) << 32) | v;
+                    }
+                }
+                Arrays.sort(neighbors, 0, found);
+                for (int i = 0; i < found; i++) {
+                    order[tail++] = (int) neighbors[i];
+                }
+            }
+        }
+        return order;
+    }
+    
+    private static int[] byDegree(IndexedGraph g) {
+        int n = g.getVertices();
+        int[] offsets = g.getOffsets();
+        long[] keys = new long[n];
+        for (int v = 0; v < n; v++) {
+            // Descending degree, ties by id
+            keys[v] = ((long) (Integer.MAX_VALUE - (offsets[v + 1] - offsets[v])) << 32) | v;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,33 @@
+package main.java;
+
+/**
+ * Primitive type of a graph's edge weights, from narrowest to widest. int
+ * graphs go through Graph and the existing solvers unchanged; long and
+ * double graphs use LongWeightGraph and DoubleWeightGraph, whose solver
+ * paths are written out per type instead of going through boxed Numbers.
+ */
+public enum WeightType {
+    INT("int"),
+    LONG("long"),
+    DOUBLE("double");
+    
+    private final String label;
+    
+    WeightType(String label) {
+        this.label = label;
+    }
+    
+    /**
+     * Name used in JSON output.
+     */
+    public String getLabel() {
+        return label;
+    }
+    
+    /**
+     * The narrowest type that can hold weights of both this and other.
+     */
+    public WeightType widen(WeightType other) {
+        return other.ordinal() > ordinal() ? other : this;
+    }
+}
@@ -0,0 +1,103 @@
+package main.java;
+
+import com.google.gson.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Cost of the long and double weight paths next to the int path on the same
+ * graphs. "long (wide)" shifts every weight by 2^40 so Kruskal's sort falls
+ * back from packed keys to the radix sort. The parse section compares
+ * reflective Gson (int weights only) with GraphData.EdgeDataAdapter on the
+ * same int-weighted JSON, the reader's only extra work on int input.
+ */
+public class WeightTypeBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int AVERAGE_DEGREE = 8;
+    private static final int MEASURED_RUNS = 5;
+    private static final long WIDE_OFFSET = 1L << 40;
+    
+    public static void main(String[] args) {
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        
+        System.out.println("=".repeat(80));
+        System.out.println("Weight Type Benchmark (median of " + MEASURED_RUNS + " runs, ms)");
+        System.out.println("=".repeat(80));
+        System.out.printf("%-10s %-14s %12s %12s\n", "Vertices", "Weights", "Prim", "Kruskal");
+        System.out.println("-".repeat(80));
+        
+        for (int vertices : SIZES) {
+            GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec("uniform", vertices,
+                vertices * AVERAGE_DEGREE / 2, 1_000_000, GraphGenerator.GraphFamily.UNIFORM_RANDOM,
+                GraphGenerator.WeightDistribution.UNIFORM);
+            Graph graph = generator.generateGraph(spec);
+            long cost = kruskal.findMST(graph, workspace).getTotalCost();
+            
+            LongWeightGraph longGraph = LongWeightGraph.of(graph);
+            DoubleWeightGraph doubleGraph = DoubleWeightGraph.of(graph);
+            long[] wideWeights = new long[graph.getEdgeCount()];
+            int[] from = new int[graph.getEdgeCount()];
+            int[] to = new int[graph.getEdgeCount()];
+            for (int e = 0; e < wideWeights.length; e++) {
+                wideWeights[e] = longGraph.getWeight(e) + WIDE_OFFSET;
+                from[e] = graph.getEdgeFrom(e);
+                to[e] = graph.getEdgeTo(e);
+            }
+            LongWeightGraph wideGraph = new LongWeightGraph(graph.getDictionary(), from, to, wideWeights);
+            long wideCost = cost + (graph.getVertices() - 1) * WIDE_OFFSET;
+            
+            System.out.printf("%-10d %-14s %12.2f %12.2f\n", vertices, "int",
+                medianTime(() -> prim.findMST(graph, workspace).getTotalCost(), cost),
+                medianTime(() -> kruskal.findMST(graph, workspace).getTotalCost(), cost));
+            System.out.printf("%-10s %-14s %12.2f %12.2f\n", "", "long",
+                medianTime(() -> prim.findMST(longGraph, CancellationToken.NONE).getTotalCost(), cost),
+                medianTime(() -> kruskal.findMST(longGraph, CancellationToken.NONE).getTotalCost(), cost));
+            System.out.printf("%-10s %-14s %12.2f %12.2f\n", "", "long (wide)",
+                medianTime(() -> prim.findMST(wideGraph, CancellationToken.NONE).getTotalCost(), wideCost),
+                medianTime(() -> kruskal.findMST(wideGraph, CancellationToken.NONE).getTotalCost(), wideCost));
+            System.out.printf("%-10s %-14s %12.2f %12.2f\n", "", "double",
+                medianTime(() -> (long) prim.findMST(doubleGraph, CancellationToken.NONE).getTotalCost(), cost),
+                medianTime(() -> (long) kruskal.findMST(doubleGraph, CancellationToken.NONE).getTotalCost(), cost));
+        }
+        
+        System.out.println("-".repeat(80));
+        System.out.printf("%-10s %-14s %12s\n", "Edges", "Parser", "Parse");
+        System.out.println("-".repeat(80));
+        Gson reflective = new Gson();
+        Gson adapted = new GsonBuilder()
+            .registerTypeAdapter(GraphData.EdgeData.class, new GraphData.EdgeDataAdapter())
+            .create();
+        Graph graph = generator.generateGraph(new GraphGenerator.TestGraphSpec("uniform", SIZES[1],
+            SIZES[1] * AVERAGE_DEGREE / 2, 1_000_000, GraphGenerator.GraphFamily.UNIFORM_RANDOM,
+            GraphGenerator.WeightDistribution.UNIFORM));
+        String json = reflective.toJson(MSTProtocol.toGraphData(1, graph.getEdges()));
+        int edges = graph.getEdgeCount();
+        System.out.printf("%-10d %-14s %12.2f\n", edges, "reflective",
+            medianTime(() -> (long) reflective.fromJson(json, GraphData.class).getEdges().size(), edges));
+        System.out.printf("%-10s %-14s %12.2f\n", "", "adapter",
+            medianTime(() -> (long) adapted.fromJson(json, GraphData.class).getEdges().size(), edges));
+        
+        System.out.println("=".repeat(80));
+    }
+    
+    /**
+     * Median wall time of task, which returns a value checked against expected.
+     */
+    private static double medianTime(Supplier<Long> task, long expected) {
+        task.get();
+        double[] times = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            long result = task.get();
+            times[i] = (System.nanoTime() - start) / 1_000_000.0;
+            if (result != expected) {
+                throw new IllegalStateException("Result mismatch: " + result + " != " + expected);
+            }
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+}
@@ -0,0 +1,82 @@
+package main.java;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Allocation rate of a batch of small graphs solved the way MSTProcessor does
+ * it, with and without a reused SolverWorkspace. Allocated bytes come from
+ * the per-thread counter of com.sun.management.ThreadMXBean; the input
+ * graphs are generated up front so only solver allocations are measured.
+ */
+public class WorkspaceBenchmark {
+    private static final int GRAPHS = 2000;
+    private static final int WARMUP_PASSES = 3;
+    
+    public static void main(String[] args) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            System.err.println("Per-thread allocation counters are not available on this JVM");
+            return;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        
+        GraphGenerator generator = new GraphGenerator(42); // Fixed seed for reproducibility
+        Random random = new Random(42);
+        List<Graph> graphs = new ArrayList<>();
+        long totalEdges = 0;
+        for (int i = 0; i < GRAPHS; i++) {
+            int vertices = 200 + random.nextInt(800);
+            Graph graph = generator.generateGraph(vertices, vertices * 4, 1000);
+            graphs.add(graph);
+            totalEdges += graph.getEdgeCount();
+        }
+        
+        System.out.println("=".repeat(86));
+        System.out.println("Solver Workspace Allocation Benchmark");
+        System.out.println("=".repeat(86));
+        System.out.printf("%d graphs, %d edges in total\n\n", GRAPHS, totalEdges);
+        System.out.printf("%-28s %12s %14s %12s %14s\n", "Solver", "Time (ms)", "Alloc (MB)", "KB/graph", "Bytes/edge");
+        System.out.println("-".repeat(86));
+        
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm heapPrim = new PrimAlgorithm(() -> new DaryHeapQueue(4));
+        
+        run("Prim (object lists)", threads, graphs, totalEdges, prim::findMST);
+        run("Prim (int, fresh arrays)", threads, graphs, totalEdges, heapPrim::findMST);
+        run("Prim (int, workspace)", threads, graphs, totalEdges, g -> prim.findMST(g, workspace));
+        run("Kruskal (default)", threads, graphs, totalEdges, kruskal::findMST);
+        run("Kruskal (int, workspace)", threads, graphs, totalEdges, g -> kruskal.findMST(g, workspace));
+        
+        System.out.println("-".repeat(86));
+        System.out.printf("Workspace array growths over all passes: %d\n", workspace.getGrowCount());
+        System.out.println("=".repeat(86));
+    }
+    
+    private static void run(String name, com.sun.management.ThreadMXBean threads, List<Graph> graphs,
+                            long totalEdges, Function<Graph, MSTResult> solver) {
+        for (int pass = 0; pass < WARMUP_PASSES; pass++) {
+            for (Graph graph : graphs) {
+                solver.apply(graph);
+            }
+        }
+        
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (Graph graph : graphs) {
+            checksum += solver.apply(graph).getTotalCost();
+        }
+        double timeMs = (System.nanoTime() - start) / 1_000_000.0;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        
+        System.out.printf("%-28s %12.2f %14.2f %12.2f %14.2f   (checksum %d)\n", name, timeMs,
+            allocated / (1024.0 * 1024.0), allocated / 1024.0 / graphs.size(),
+            (double) allocated / totalEdges, checksum);
+    }
+}
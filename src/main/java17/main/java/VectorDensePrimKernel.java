@@ -0,0 +1,74 @@
+package main.java;
+
+import jdk.incubator.vector.*;
+
+/**
+ * DensePrimKernel on the incubating Vector API (JDK 17+). Only compiled by
+ * the java17 profile into META-INF/versions/17 of the multi-release jar, and
+ * only usable when the JVM runs with --add-modules jdk.incubator.vector;
+ * DensePrimAlgorithm falls back to the scalar kernel otherwise.
+ */
+public class VectorDensePrimKernel implements DensePrimKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    
+    @Override
+    public int argMin(int[] key, int n) {
+        // Pass 1: smallest key, treating in-tree vertices as unreached
+        int bound = SPECIES.loopBound(n);
+        IntVector minimum = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        int v = 0;
+        for (; v < bound; v += SPECIES.length()) {
+            IntVector k = IntVector.fromArray(SPECIES, key, v);
+            minimum = minimum.min(k.blend(Integer.MAX_VALUE, k.eq(Integer.MIN_VALUE)));
+        }
+        int min = minimum.reduceLanes(VectorOperators.MIN);
+        for (; v < n; v++) {
+            if (key[v] != Integer.MIN_VALUE && key[v] < min) {
+                min = key[v];
+            }
+        }
+        
+        // Pass 2: first vertex holding it
+        for (v = 0; v < bound; v += SPECIES.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, key, v).eq(min);
+            if (found.anyTrue()) {
+                return v + found.firstTrue();
+            }
+        }
+        for (; v < n; v++) {
+            if (key[v] == min) {
+                return v;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    public void relax(int[] weights, int offset, int[] key, int[] parent, int u, int n) {
+        int bound = SPECIES.loopBound(n);
+        IntVector from = IntVector.broadcast(SPECIES, u);
+        int v = 0;
+        for (; v < bound; v += SPECIES.length()) {
+            IntVector w = IntVector.fromArray(SPECIES, weights, offset + v);
+            IntVector k = IntVector.fromArray(SPECIES, key, v);
+            VectorMask<Integer> better = w.lt(k);
+            if (better.anyTrue()) {
+                // Blend and store whole vectors; masked stores are slow on JDK 17
+                k.min(w).intoArray(key, v);
+                IntVector.fromArray(SPECIES, parent, v).blend(from, better).intoArray(parent, v);
+            }
+        }
+        for (; v < n; v++) {
+            int w = weights[offset + v];
+            if (w < key[v]) {
+                key[v] = w;
+                parent[v] = u;
+            }
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length() + "x32";
+    }
+}
@@ -0,0 +1,143 @@
+package test.java;
+
+import main.java.*;
+import org.junit.Test;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+
+public class ConcurrentUnionFindTest {
+    private static final int THREADS = 8;
+    
+    @Test
+    public void testSequentialBehaviour() {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(5);
+        
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(3, 4));
+        assertFalse(uf.union(1, 0));
+        assertTrue(uf.isConnected(0, 1));
+        assertFalse(uf.isConnected(1, 3));
+        assertTrue(uf.union(1, 4));
+        assertTrue(uf.isConnected(0, 3));
+        assertEquals(uf.find(0), uf.find(4));
+    }
+    
+    @Test
+    public void testConcurrentUnionsMatchSequentialPartition() throws Exception {
+        for (long seed = 1; seed <= 5; seed++) {
+            int size = 20000;
+            int pairs = 30000;
+            Random random = new Random(seed);
+            int[] a = new int[pairs];
+            int[] b = new int[pairs];
+            for (int i = 0; i < pairs; i++) {
+                a[i] = random.nextInt(size);
+                b[i] = random.nextInt(size);
+            }
+            
+            UnionFind expected = new UnionFind(size);
+            for (int i = 0; i < pairs; i++) {
+                expected.union(a[i], b[i]);
+            }
+            
+            ConcurrentUnionFind uf = seed % 2 == 0 ? new ConcurrentUnionFind(size) : new ConcurrentUnionFind(size, seed);
+            AtomicInteger successfulUnions = new AtomicInteger();
+            runConcurrently(t -> {
+                // Every thread replays all pairs in a different order
+                for (int k = 0; k < pairs; k++) {
+                    int i = (k + t * (pairs / THREADS)) % pairs;
+                    if (uf.union(a[i], b[i])) {
+                        successfulUnions.incrementAndGet();
+                    }
+                }
+            });
+            
+            // Each merge is reported by exactly one successful union
+            assertEquals(size - expected.getComponents(), successfulUnions.get());
+            for (int i = 0; i < size; i++) {
+                int j = (i * 7919) % size;
+                assertEquals(expected.isConnected(i, j), uf.isConnected(i, j));
+            }
+        }
+    }
+    
+    @Test
+    public void testConnectivityIsMonotonicUnderConcurrentUnions() throws Exception {
+        int size = 10000;
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(size, 42);
+        AtomicInteger violations = new AtomicInteger();
+        
+        runConcurrently(t -> {
+            if (t < THREADS / 2) {
+                // Writers build one chain 0-1-2-...; each thread takes a stride
+                for (int i = t; i < size - 1; i += THREADS / 2) {
+                    uf.union(i, i + 1);
+                }
+            } else {
+                // Readers: once two elements are connected they must stay connected
+                Random random = new Random(t);
+                boolean[] seen = new boolean[64];
+                int[] x = new int[64];
+                int[] y = new int[64];
+                for (int k = 0; k < 64; k++) {
+                    x[k] = random.nextInt(size);
+                    y[k] = random.nextInt(size);
+                }
+                for (int round = 0; round < 2000; round++) {
+                    for (int k = 0; k < 64; k++) {
+                        boolean connected = uf.isConnected(x[k], y[k]);
+                        if (seen[k] && !connected) {
+                            violations.incrementAndGet();
+                        }
+                        seen[k] |= connected;
+                    }
+                }
+            }
+        });
+        
+        assertEquals(0, violations.get());
+        assertTrue(uf.isConnected(0, size - 1));
+    }
+    
+    @Test
+    public void testParallelKruskalMatchesKruskal() {
+        GraphGenerator generator = new GraphGenerator(7);
+        for (int threads = 1; threads <= 8; threads *= 2) {
+            Graph graph = generator.generateGraph(3000, 15000, 100);
+            
+            MSTResult kruskalResult = new KruskalAlgorithm().findMST(graph);
+            MSTResult parallelResult = new ParallelKruskalAlgorithm(threads, 512).findMST(graph);
+            
+            assertEquals(kruskalResult.getTotalCost(), parallelResult.getTotalCost());
+            assertEquals(graph.getVertices() - 1, parallelResult.getMstEdges().size());
+        }
+    }
+    
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+    
+    private static void runConcurrently(Worker worker) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    worker.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
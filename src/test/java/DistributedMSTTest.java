@@ -0,0 +1,151 @@
+package test.java;
+
+import main.java.*;
+import org.junit.Test;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.InetSocketAddress;
+import java.util.*;
+import static org.junit.Assert.*;
+
+public class DistributedMSTTest {
+    
+    @Test
+    public void testLocalForestKeepsOnlyForestEdges() {
+        Graph graph = new GraphGenerator(42).generateGraph(200, 1000, 20);
+        GraphData data = MSTProtocol.toGraphData(1, graph.getEdges());
+        
+        MSTResult forest = MSTWorker.localForest(data);
+        
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), forest.getTotalCost());
+        assertEquals(199, forest.getMstEdges().size());
+    }
+    
+    @Test
+    public void testInProcessWorkers() throws Exception {
+        List<MSTWorker> workers = startWorkers(3);
+        List<InetSocketAddress> addresses = addressesOf(workers);
+        try {
+            GraphGenerator generator = new GraphGenerator(42);
+            // Few distinct weights: merges must agree on tie-breaking
+            Graph graph = generator.generateGraph(new GraphGenerator.TestGraphSpec("ties", 3000, 20000, 5,
+                GraphGenerator.GraphFamily.UNIFORM_RANDOM, GraphGenerator.WeightDistribution.FEW_DISTINCT));
+            for (int partitions : new int[]{1, 3, 8}) {
+                DistributedMST distributed = new DistributedMST(addresses, partitions);
+                MSTResult result = distributed.findMST(graph);
+                
+                assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+                assertEquals(2999, result.getMstEdges().size());
+                assertEquals(1 + (32 - Integer.numberOfLeadingZeros(partitions - 1)), distributed.getRounds());
+            }
+        } finally {
+            for (MSTWorker worker : workers) {
+                worker.close();
+            }
+        }
+    }
+    
+    @Test
+    public void testWorkerProcesses() throws Exception {
+        try (LocalWorkerCluster cluster = new LocalWorkerCluster(2, "256m")) {
+            Graph graph = new GraphGenerator(7).generateGraph(5000, 30000, 1000);
+            DistributedMST distributed = new DistributedMST(cluster.getAddresses(), 4);
+            MSTResult result = distributed.findMST(graph);
+            
+            assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+            assertEquals(4999, result.getMstEdges().size());
+            assertEquals(3, distributed.getRounds());
+            // Merge rounds ship forests of at most V - 1 edges: 4 in round 1, 2 in round 2
+            assertTrue(distributed.getEdgesShipped() <= 30000 + 6 * 4999);
+        }
+    }
+    
+    @Test(timeout = 60_000)
+    public void testCoordinatorStreamsPartitions() throws Exception {
+        List<MSTWorker> workers = startWorkers(2);
+        try {
+            Graph graph = new GraphGenerator(11).generateGraph(2000, 12000, 100);
+            int edgeCount = graph.getEdgeCount();
+            int partitionSize = 1000;
+            DistributedMST distributed = new DistributedMST(addressesOf(workers));
+            List<WeakReference<Edge>> handedOut = new ArrayList<>();
+            int[] maxLive = {0};
+            
+            Iterator<Edge> edges = new Iterator<Edge>() {
+                @Override
+                public boolean hasNext() {
+                    return handedOut.size() < edgeCount;
+                }
+                
+                @Override
+                public Edge next() {
+                    int k = handedOut.size();
+                    // Every partition completed before edge k has already gone to a worker
+                    assertEquals((long) k / partitionSize * partitionSize, distributed.getEdgesShipped());
+                    if (k % (4 * partitionSize) == partitionSize / 2) {
+                        maxLive[0] = Math.max(maxLive[0], liveEdges(handedOut));
+                    }
+                    Edge edge = graph.getEdge(k);
+                    Edge copy = new Edge(edge.getFrom(), edge.getTo(), edge.getWeight());
+                    handedOut.add(new WeakReference<>(copy));
+                    return copy;
+                }
+            };
+            MSTResult result = distributed.findMST(edges, partitionSize);
+            
+            assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+            assertEquals(1999, result.getMstEdges().size());
+            assertEquals(edgeCount, handedOut.size());
+            // Shipped partitions are released: far fewer than all E edges are ever reachable
+            assertTrue("live edges: " + maxLive[0], maxLive[0] > 0 && maxLive[0] <= 2 * partitionSize);
+        } finally {
+            for (MSTWorker worker : workers) {
+                worker.close();
+            }
+        }
+    }
+    
+    /**
+     * Edges handed to the coordinator that are still reachable, after giving
+     * the collector a few chances to clear the rest.
+     */
+    private static int liveEdges(List<WeakReference<Edge>> handedOut) {
+        int live = handedOut.size();
+        for (int attempt = 0; attempt < 10 && live > 0; attempt++) {
+            System.gc();
+            live = 0;
+            for (WeakReference<Edge> reference : handedOut) {
+                if (reference.get() != null) {
+                    live++;
+                }
+            }
+        }
+        return live;
+    }
+    
+    private static List<MSTWorker> startWorkers(int count) throws IOException {
+        List<MSTWorker> workers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MSTWorker worker = new MSTWorker(0);
+            Thread thread = new Thread(() -> {
+                try {
+                    worker.serve();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+            workers.add(worker);
+        }
+        return workers;
+    }
+    
+    private static List<InetSocketAddress> addressesOf(List<MSTWorker> workers) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (MSTWorker worker : workers) {
+            addresses.add(new InetSocketAddress("127.0.0.1", worker.getPort()));
+        }
+        return addresses;
+    }
+}
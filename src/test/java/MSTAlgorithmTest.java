@@ -2,7 +2,9 @@ package test.java;
 
 import main.java.*;
 import org.junit.Test;
+import java.nio.file.*;
 import java.util.*;
+import java.util.function.Supplier;
 import static org.junit.Assert.*;
 
 public class MSTAlgorithmTest {
@@ -131,4 +133,924 @@ public class MSTAlgorithmTest {
         assertEquals(3, primResult.getTotalCost()); // Should pick edges 1 and 2
         assertEquals(2, primResult.getMstEdges().size());
     }
+    
+    @Test
+    public void testParallelPrimGraph1() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E");
+        List<Edge> edges = Arrays.asList(
+            new Edge("A", "B", 4),
+            new Edge("A", "C", 3),
+            new Edge("B", "C", 2),
+            new Edge("B", "D", 5),
+            new Edge("C", "D", 7),
+            new Edge("C", "E", 8),
+            new Edge("D", "E", 6)
+        );
+        
+        Graph graph = new Graph(nodes, edges);
+        ParallelPrimAlgorithm prim = new ParallelPrimAlgorithm(3);
+        MSTResult result = prim.findMST(graph);
+        
+        assertEquals(16, result.getTotalCost());
+        assertEquals(4, result.getMstEdges().size());
+    }
+    
+    @Test
+    public void testParallelPrimMatchesKruskalOnGeneratedGraphs() {
+        GraphGenerator generator = new GraphGenerator(42);
+        for (int threads = 1; threads <= 8; threads *= 2) {
+            Graph graph = generator.generateGraph(2000, 10000, 50);
+            
+            MSTResult kruskalResult = new KruskalAlgorithm().findMST(graph);
+            MSTResult parallelResult = new ParallelPrimAlgorithm(threads).findMST(graph);
+            
+            // Small weight range forces many ties between competing trees
+            assertEquals(kruskalResult.getTotalCost(), parallelResult.getTotalCost());
+            assertEquals(graph.getVertices() - 1, parallelResult.getMstEdges().size());
+        }
+    }
+    
+    @Test
+    public void testLazyIteratorMatchesKruskal() {
+        Graph graph = new GraphGenerator(42).generateGraph(500, 2500, 1000);
+        MSTResult kruskalResult = new KruskalAlgorithm().findMST(graph);
+        
+        MSTEdgeIterator iterator = new KruskalAlgorithm().iterateMST(graph);
+        int previousWeight = Integer.MIN_VALUE;
+        int count = 0;
+        while (iterator.hasNext()) {
+            Edge edge = iterator.next();
+            assertTrue(edge.getWeight() >= previousWeight);
+            previousWeight = edge.getWeight();
+            count++;
+        }
+        
+        assertEquals(kruskalResult.getMstEdges().size(), count);
+        assertEquals(kruskalResult.getTotalCost(), iterator.getCumulativeCost());
+    }
+    
+    @Test
+    public void testLazyIteratorEarlyTermination() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E");
+        List<Edge> edges = Arrays.asList(
+            new Edge("A", "B", 4),
+            new Edge("A", "C", 3),
+            new Edge("B", "C", 2),
+            new Edge("B", "D", 5),
+            new Edge("C", "D", 7),
+            new Edge("C", "E", 8),
+            new Edge("D", "E", 6)
+        );
+        
+        Graph graph = new Graph(nodes, edges);
+        
+        List<Edge> lightest = new KruskalAlgorithm().iterateMST(graph).take(2);
+        assertEquals(2, lightest.size());
+        assertEquals(2, lightest.get(0).getWeight());
+        assertEquals(3, lightest.get(1).getWeight());
+        
+        MSTEdgeIterator iterator = new KruskalAlgorithm().iterateMST(graph);
+        List<Edge> withinBudget = iterator.takeWithinBudget(10);
+        assertEquals(3, withinBudget.size()); // 2 + 3 + 5
+        assertEquals(10, iterator.getCumulativeCost());
+        assertEquals(6, iterator.peekWeight());
+    }
+    
+    @Test
+    public void testEuclideanMSTMatchesBruteForce() {
+        GraphGenerator generator = new GraphGenerator(42);
+        for (int dims = 2; dims <= 3; dims++) {
+            PointSet points = generator.generatePointSet(400, dims, 100.0);
+            
+            EuclideanMST euclidean = new EuclideanMST();
+            MSTResult result = euclidean.findMST(points);
+            
+            assertEquals(points.size() - 1, result.getMstEdges().size());
+            assertEquals(bruteForcePrimLength(points), euclidean.getTotalLength(), 1e-6);
+        }
+    }
+    
+    @Test
+    public void testEuclideanMSTSquare() {
+        // Unit square plus its centre: four spokes of length sqrt(0.5)
+        PointSet points = PointSet.fromPoints(Arrays.asList(
+            new double[]{0, 0}, new double[]{0, 1}, new double[]{1, 0}, new double[]{1, 1}, new double[]{0.5, 0.5}
+        ), Arrays.asList("A", "B", "C", "D", "E"));
+        
+        EuclideanMST euclidean = new EuclideanMST(100);
+        MSTResult result = euclidean.findMST(points);
+        
+        assertEquals(4, result.getMstEdges().size());
+        assertEquals(4 * Math.sqrt(0.5), euclidean.getTotalLength(), 1e-9);
+        assertEquals(4 * 71, result.getTotalCost());
+    }
+    
+    private static double bruteForcePrimLength(PointSet points) {
+        int n = points.size();
+        double[] key = new double[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        key[0] = 0;
+        double total = 0;
+        for (int step = 0; step < n; step++) {
+            int best = -1;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v] && (best < 0 || key[v] < key[best])) {
+                    best = v;
+                }
+            }
+            inTree[best] = true;
+            total += Math.sqrt(key[best]);
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v]) {
+                    key[v] = Math.min(key[v], points.distanceSquared(best, v));
+                }
+            }
+        }
+        return total;
+    }
+    
+    @Test
+    public void testPreprocessingRemovesRedundantEdges() {
+        // Triangle A-B-C with a self-loop, a heavier parallel A-B edge and a tail C-D-E
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E");
+        List<Edge> edges = Arrays.asList(
+            new Edge("A", "B", 1),
+            new Edge("B", "C", 2),
+            new Edge("A", "C", 3),
+            new Edge("B", "B", 1),
+            new Edge("B", "A", 9),
+            new Edge("C", "D", 4),
+            new Edge("D", "E", 5)
+        );
+        
+        Graph graph = new Graph(nodes, edges);
+        PreprocessedGraph preprocessed = new GraphPreprocessor().preprocess(graph);
+        
+        assertEquals(1, preprocessed.getSelfLoopsRemoved());
+        assertEquals(1, preprocessed.getParallelEdgesRemoved());
+        assertEquals(2, preprocessed.getLeavesContracted());
+        assertEquals(3, preprocessed.getKernel().getVertices());
+        assertEquals(3, preprocessed.getKernel().getEdgeCount());
+        
+        MSTResult result = preprocessed.expand(new KruskalAlgorithm().findMST(preprocessed.getKernel()));
+        assertEquals(12, result.getTotalCost());
+        assertEquals(4, result.getMstEdges().size());
+    }
+    
+    @Test
+    public void testPreprocessingPreservesMSTCost() {
+        GraphGenerator generator = new GraphGenerator(42);
+        for (int i = 0; i < 5; i++) {
+            Graph graph = generator.generateGraph(300, 320 + i * 100, 100);
+            PreprocessedGraph preprocessed = new GraphPreprocessor().preprocess(graph);
+            
+            MSTResult expected = new KruskalAlgorithm().findMST(graph);
+            MSTResult prim = preprocessed.expand(new PrimAlgorithm().findMST(preprocessed.getKernel()));
+            MSTResult kruskal = preprocessed.expand(new KruskalAlgorithm().findMST(preprocessed.getKernel()));
+            
+            assertEquals(expected.getTotalCost(), prim.getTotalCost());
+            assertEquals(expected.getTotalCost(), kruskal.getTotalCost());
+            assertEquals(graph.getVertices() - 1, kruskal.getMstEdges().size());
+        }
+    }
+    
+    @Test
+    public void testPreprocessingTreeLeavesEmptyKernel() {
+        Graph graph = new GraphGenerator(1).generateGraph(50, 49, 10);
+        PreprocessedGraph preprocessed = new GraphPreprocessor().preprocess(graph);
+        
+        assertEquals(0, preprocessed.getKernel().getVertices());
+        MSTResult result = preprocessed.expand(new PrimAlgorithm().findMST(preprocessed.getKernel()));
+        assertEquals(49, result.getMstEdges().size());
+    }
+    
+    @Test
+    public void testWorkloadFamiliesAreConnected() {
+        GraphGenerator generator = new GraphGenerator(42);
+        for (GraphGenerator.GraphFamily family : GraphGenerator.GraphFamily.values()) {
+            for (GraphGenerator.WeightDistribution weights : GraphGenerator.WeightDistribution.values()) {
+                GraphGenerator.TestGraphSpec spec = new GraphGenerator.TestGraphSpec(
+                    family + "_" + weights, 400, 1600, 1000, family, weights);
+                Graph graph = generator.generateGraph(spec);
+                
+                MSTResult primResult = new PrimAlgorithm().findMST(graph);
+                MSTResult kruskalResult = new KruskalAlgorithm().findMST(graph);
+                
+                assertEquals(spec.toString(), graph.getVertices() - 1, kruskalResult.getMstEdges().size());
+                assertEquals(spec.toString(), kruskalResult.getTotalCost(), primResult.getTotalCost());
+                for (Edge edge : graph.getEdges()) {
+                    assertTrue(edge.getWeight() >= 1 && edge.getWeight() <= 1000);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testPrimWithEveryPriorityQueue() {
+        List<Supplier<IndexedPriorityQueue>> queues = Arrays.asList(
+            () -> new DaryHeapQueue(2),
+            () -> new DaryHeapQueue(4),
+            PairingHeapQueue::new,
+            BucketQueue::new
+        );
+        GraphGenerator generator = new GraphGenerator(42);
+        for (int maxWeight : new int[]{8, 1000}) {
+            Graph graph = generator.generateGraph(1000, 5000, maxWeight);
+            MSTResult expected = new KruskalAlgorithm().findMST(graph);
+            
+            for (Supplier<IndexedPriorityQueue> queue : queues) {
+                PrimAlgorithm prim = new PrimAlgorithm(queue);
+                MSTResult result = prim.findMST(graph);
+                // Run twice so queue reuse after reset is covered
+                MSTResult again = prim.findMST(graph);
+                
+                assertEquals(expected.getTotalCost(), result.getTotalCost());
+                assertEquals(expected.getTotalCost(), again.getTotalCost());
+                assertEquals(999, result.getMstEdges().size());
+            }
+        }
+    }
+    
+    @Test
+    public void testPriorityQueuesOrderKeys() {
+        List<IndexedPriorityQueue> queues = Arrays.asList(
+            new DaryHeapQueue(2), new DaryHeapQueue(3), new PairingHeapQueue(), new BucketQueue()
+        );
+        for (IndexedPriorityQueue queue : queues) {
+            queue.reset(6, 100);
+            queue.insert(0, 50);
+            queue.insert(1, 20);
+            queue.insert(2, 70);
+            queue.insert(3, 20);
+            queue.insert(4, 90);
+            queue.decreaseKey(4, 10);
+            queue.decreaseKey(2, 30);
+            
+            assertEquals(queue.getName(), 4, queue.extractMin());
+            int second = queue.extractMin();
+            int third = queue.extractMin();
+            assertTrue(queue.getName(), (second == 1 && third == 3) || (second == 3 && third == 1));
+            queue.insert(5, 40);
+            assertEquals(queue.getName(), 2, queue.extractMin());
+            assertEquals(queue.getName(), 5, queue.extractMin());
+            assertEquals(queue.getName(), 0, queue.extractMin());
+            assertTrue(queue.isEmpty());
+            assertFalse(queue.contains(0));
+        }
+    }
+    
+    @Test
+    public void testSolverWorkspaceReuse() {
+        GraphGenerator generator = new GraphGenerator(42);
+        List<Graph> graphs = new ArrayList<>();
+        for (int vertices : new int[]{500, 50, 1000, 10, 300}) {
+            graphs.add(generator.generateGraph(vertices, vertices * 3, 100));
+        }
+        graphs.add(new Graph(Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+            new Edge("A", "B", 4),
+            new Edge("A", "C", 3),
+            new Edge("B", "C", 2),
+            new Edge("B", "D", 5),
+            new Edge("C", "D", 7),
+            new Edge("C", "E", 8),
+            new Edge("D", "E", 6)
+        )));
+        
+        SolverWorkspace workspace = new SolverWorkspace();
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        int growCount = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (Graph graph : graphs) {
+                long expected = kruskal.findMST(graph).getTotalCost();
+                MSTResult primResult = prim.findMST(graph, workspace);
+                MSTResult kruskalResult = kruskal.findMST(graph, workspace);
+                
+                assertEquals(expected, primResult.getTotalCost());
+                assertEquals(expected, kruskalResult.getTotalCost());
+                assertEquals(graph.getVertices() - 1, primResult.getMstEdges().size());
+                assertEquals(graph.getVertices() - 1, kruskalResult.getMstEdges().size());
+            }
+            if (pass == 0) {
+                growCount = workspace.getGrowCount();
+            }
+        }
+        // Second pass fits in the arrays sized by the first
+        assertEquals(growCount, workspace.getGrowCount());
+        assertSame(SolverWorkspace.forCurrentThread(), SolverWorkspace.forCurrentThread());
+    }
+    
+    @Test
+    public void testPhaseTimesAndFlightRecorderEvents() throws Exception {
+        Graph graph = new GraphGenerator(42).generateGraph(2000, 10000, 1000);
+        Path file = Files.createTempFile("mst-phases", ".jfr");
+        MSTResult prim;
+        MSTResult kruskal;
+        try (jdk.jfr.Recording recording = new jdk.jfr.Recording()) {
+            recording.enable("mst.Phase").withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            PhaseTimer.setGraphId("g1");
+            prim = new PrimAlgorithm().findMST(graph);
+            kruskal = new KruskalAlgorithm().findMST(graph, new SolverWorkspace());
+            PhaseTimer.setGraphId(null);
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        assertTrue(prim.getPhaseTimeMs(MSTPhase.BUILD) > 0);
+        assertTrue(prim.getPhaseTimeMs(MSTPhase.HEAP) > 0);
+        assertEquals(0, prim.getPhaseTimeMs(MSTPhase.SORT), 0);
+        assertTrue(kruskal.getPhaseTimeMs(MSTPhase.SORT) > 0);
+        assertTrue(kruskal.getPhaseTimeMs(MSTPhase.UNION_FIND) > 0);
+        double phaseSum = 0;
+        for (MSTPhase phase : MSTPhase.values()) {
+            phaseSum += kruskal.getPhaseTimeMs(phase);
+        }
+        assertTrue(phaseSum <= kruskal.getExecutionTimeMs());
+        
+        Set<String> phases = new HashSet<>();
+        for (jdk.jfr.consumer.RecordedEvent event : jdk.jfr.consumer.RecordingFile.readAllEvents(file)) {
+            assertEquals("g1", event.getString("graphId"));
+            assertEquals(2000, event.getInt("vertices"));
+            phases.add(event.getString("phase"));
+        }
+        Files.delete(file);
+        assertEquals(new HashSet<>(Arrays.asList("build", "heap", "sort", "union_find")), phases);
+        assertFalse(new MSTResult(new ArrayList<>(), 0, 0, 0).hasPhaseTimes());
+    }
+    
+    @Test
+    public void testKKTMatchesKruskal() {
+        GraphGenerator generator = new GraphGenerator(42);
+        List<Graph> graphs = new ArrayList<>();
+        graphs.add(generator.generateGraph(20000, 80000, 10));
+        graphs.add(generator.generateGraph(5000, 40000, 1000000));
+        graphs.add(generator.generateGraph(new GraphGenerator.TestGraphSpec("grid", 10000, 20000, 100,
+            GraphGenerator.GraphFamily.GRID, GraphGenerator.WeightDistribution.FEW_DISTINCT)));
+        
+        // Two disjoint random halves: KKT must return a spanning forest
+        List<String> nodes = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 6000; i++) {
+            nodes.add("V" + i);
+        }
+        for (int i = 0; i < 20000; i++) {
+            int offset = random.nextBoolean() ? 3000 : 0;
+            edges.add(new Edge("V" + (offset + random.nextInt(3000)), "V" + (offset + random.nextInt(3000)), random.nextInt(50)));
+        }
+        graphs.add(new Graph(nodes, edges));
+        
+        for (Graph graph : graphs) {
+            MSTResult expected = new KruskalAlgorithm().findMST(graph);
+            MSTResult result = new KKTAlgorithm(7).findMST(graph);
+            
+            assertEquals(expected.getTotalCost(), result.getTotalCost());
+            // Same tie-breaking order as Kruskal, so the same edges
+            assertEquals(new HashSet<>(expected.getMstEdges()), new HashSet<>(result.getMstEdges()));
+        }
+    }
+    
+    @Test
+    public void testDensePrimKernels() {
+        GraphGenerator generator = new GraphGenerator(42);
+        Graph complete = generator.generateGraph(new GraphGenerator.TestGraphSpec("complete", 300, 300 * 299 / 2, 1000,
+            GraphGenerator.GraphFamily.COMPLETE, GraphGenerator.WeightDistribution.UNIFORM));
+        Graph sparse = generator.generateGraph(500, 2000, 50);
+        
+        // Two components, a parallel edge and a self-loop
+        Graph forest = new Graph(Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+            new Edge("A", "B", 4),
+            new Edge("A", "B", 1),
+            new Edge("B", "C", 2),
+            new Edge("C", "C", -5),
+            new Edge("A", "C", 3),
+            new Edge("D", "E", -7)
+        ));
+        
+        List<DensePrimKernel> kernels = Arrays.asList(new ScalarDensePrimKernel(), DensePrimAlgorithm.defaultKernel());
+        for (DensePrimKernel kernel : kernels) {
+            DensePrimAlgorithm dense = new DensePrimAlgorithm(kernel);
+            for (Graph graph : Arrays.asList(complete, sparse)) {
+                MSTResult expected = new KruskalAlgorithm().findMST(graph);
+                MSTResult result = dense.findMST(graph);
+                assertEquals(expected.getTotalCost(), result.getTotalCost());
+                assertEquals(graph.getVertices() - 1, result.getMstEdges().size());
+            }
+            
+            MSTResult result = dense.findMST(forest);
+            assertEquals(3 - 7, result.getTotalCost());
+            assertEquals(3, result.getMstEdges().size());
+        }
+    }
+    
+    @Test
+    public void testCancelledSolvesReturnPartialForests() {
+        Graph graph = new GraphGenerator(42).generateGraph(2000, 8000, 100);
+        SolverWorkspace workspace = new SolverWorkspace();
+        CancellationToken cancelled = new CancellationToken();
+        cancelled.cancel();
+        
+        List<MSTResult> stopped = Arrays.asList(
+            new PrimAlgorithm().findMST(graph, cancelled),
+            new PrimAlgorithm().findMST(graph, workspace, cancelled),
+            new KruskalAlgorithm().findMST(graph, cancelled),
+            new KruskalAlgorithm().findMST(graph, workspace, CancellationToken.withTimeout(0))
+        );
+        for (MSTResult result : stopped) {
+            assertFalse(result.isComplete());
+            assertTrue(result.getMstEdges().isEmpty());
+            assertEquals(0, result.getEdgesScanned());
+        }
+        
+        MSTResult full = new KruskalAlgorithm().findMST(graph, workspace, CancellationToken.withTimeout(60_000));
+        assertTrue(full.isComplete());
+        assertEquals(1999, full.getMstEdges().size());
+        assertTrue(new KruskalAlgorithm().findMST(graph).isComplete());
+    }
+    
+    @Test
+    public void testDeadlineStopsSlowSolveWithMSTEdges() {
+        // Distinct weights, so the MST is unique and any partial tree must be part of it
+        int vertices = 20000;
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < vertices; i++) {
+            nodes.add("V" + i);
+        }
+        List<Edge> edges = new ArrayList<>();
+        Random random = new Random(42);
+        int weight = 0;
+        for (int i = 1; i < vertices; i++) {
+            edges.add(new Edge("V" + random.nextInt(i), "V" + i, ++weight));
+        }
+        for (int i = 0; i < 2 * vertices; i++) {
+            edges.add(new Edge("V" + random.nextInt(vertices), "V" + random.nextInt(vertices), ++weight));
+        }
+        Collections.shuffle(edges, random);
+        Graph graph = new Graph(nodes, edges);
+        
+        Set<Integer> mstWeights = new HashSet<>();
+        for (Edge edge : new KruskalAlgorithm().findMST(graph).getMstEdges()) {
+            mstWeights.add(edge.getWeight());
+        }
+        
+        // The default Prim checks the token before every poll: 5000 polls add at most 5000 vertices
+        MSTResult partial = new PrimAlgorithm().findMST(graph, CancellationToken.afterChecks(5000));
+        assertFalse(partial.isComplete());
+        assertTrue(partial.getMstEdges().size() > 0);
+        assertTrue(partial.getMstEdges().size() <= 5000);
+        assertTrue(partial.getEdgesScanned() > 0);
+        for (Edge edge : partial.getMstEdges()) {
+            assertTrue(mstWeights.contains(edge.getWeight()));
+        }
+        
+        // Kruskal checks every 1024 edges, so its third check stops it after 2048 sorted edges
+        MSTResult lightest = new KruskalAlgorithm().findMST(graph, CancellationToken.afterChecks(2));
+        assertFalse(lightest.isComplete());
+        assertEquals(2048, lightest.getEdgesScanned());
+        for (Edge edge : lightest.getMstEdges()) {
+            assertTrue(mstWeights.contains(edge.getWeight()));
+        }
+        
+        // A token cancelled up front yields an empty, incomplete forest
+        CancellationToken cancelled = new CancellationToken();
+        cancelled.cancel();
+        MSTResult empty = new PrimAlgorithm().findMST(graph, cancelled);
+        assertFalse(empty.isComplete());
+        assertTrue(empty.getMstEdges().isEmpty());
+    }
+    
+    @Test
+    public void testPathMaxIndexMatchesRecomputation() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 5; trial++) {
+            Graph graph = new GraphGenerator(trial).generateGraph(30, 60, 20); // small weight range for ties
+            MSTResult mst = new KruskalAlgorithm().findMST(graph);
+            PathMaxIndex index = new PathMaxIndex(graph, mst);
+            assertEquals(mst.getTotalCost(), index.getTreeCost());
+            
+            // Path maxima against a walk over the tree edges
+            for (int i = 0; i < 100; i++) {
+                String u = graph.getNodeNames().get(random.nextInt(30));
+                String v = graph.getNodeNames().get(random.nextInt(30));
+                if (!u.equals(v)) {
+                    assertEquals(bruteForcePathMax(mst.getMstEdges(), u, v, null), index.maxOnPath(u, v));
+                }
+            }
+            
+            // What-if deltas against re-solving with the extra edge
+            int[] from = new int[50];
+            int[] to = new int[50];
+            int[] weights = new int[50];
+            for (int i = 0; i < 50; i++) {
+                from[i] = random.nextInt(30);
+                to[i] = random.nextInt(30);
+                weights[i] = 1 + random.nextInt(25);
+            }
+            long[] deltas = index.whatIfDeltas(from, to, weights);
+            for (int i = 0; i < 50; i++) {
+                List<Edge> edges = new ArrayList<>(graph.getEdges());
+                edges.add(new Edge(graph.getNodeNames().get(from[i]), graph.getNodeNames().get(to[i]), weights[i]));
+                long cost = new KruskalAlgorithm().findMST(new Graph(graph.getNodeNames(), edges)).getTotalCost();
+                assertEquals(cost - mst.getTotalCost(), deltas[i]);
+            }
+            
+            // Second-best tree against dropping each tree edge in turn
+            long secondBest = Long.MAX_VALUE;
+            for (Edge treeEdge : mst.getMstEdges()) {
+                List<Edge> edges = new ArrayList<>(graph.getEdges());
+                edges.remove(treeEdge);
+                MSTResult without = new KruskalAlgorithm().findMST(new Graph(graph.getNodeNames(), edges));
+                if (without.getMstEdges().size() == mst.getMstEdges().size()) {
+                    secondBest = Math.min(secondBest, without.getTotalCost());
+                }
+            }
+            assertEquals(secondBest, index.secondBestCost().getAsLong());
+            assertEquals(secondBest, new PathMaxIndex(graph, new PrimAlgorithm().findMST(graph)).secondBestCost().getAsLong());
+        }
+        
+        // A tree has no second-best; separate trees are joined at full weight
+        Graph path = new Graph(Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(new Edge("A", "B", 3), new Edge("B", "C", 5)));
+        PathMaxIndex index = new PathMaxIndex(path, new KruskalAlgorithm().findMST(path));
+        assertFalse(index.secondBestCost().isPresent());
+        assertEquals(5, index.maxOnPath("A", "C"));
+        assertEquals(-1, index.whatIfDelta("A", "C", 4));
+        assertEquals(0, index.whatIfDelta("A", "C", 6));
+        assertEquals(7, index.whatIfDelta("A", "D", 7));
+        assertFalse(index.isConnected(0, 3));
+    }
+    
+    private int bruteForcePathMax(List<Edge> tree, String at, String target, String previous) {
+        if (at.equals(target)) {
+            return Integer.MIN_VALUE;
+        }
+        for (Edge edge : tree) {
+            String next = edge.getFrom().equals(at) ? edge.getTo() : edge.getTo().equals(at) ? edge.getFrom() : null;
+            if (next != null && !next.equals(previous)) {
+                int rest = bruteForcePathMax(tree, next, target, at);
+                if (rest != Integer.MAX_VALUE) {
+                    return Math.max(edge.getWeight(), rest);
+                }
+            }
+        }
+        return Integer.MAX_VALUE; // target not below this branch
+    }
+    
+    @Test
+    public void testNodeDictionaryInternsNames() {
+        NodeDictionary dictionary = new NodeDictionary(Arrays.asList("V2", "V0", "Alpha", "V01", "V2147483648", "v1"));
+        assertEquals(6, dictionary.size());
+        assertEquals(0, dictionary.lookup("V2"));
+        assertEquals(1, dictionary.lookup(new String("V0")));
+        assertEquals(2, dictionary.lookup("Alpha"));
+        assertEquals(3, dictionary.lookup("V01")); // not the same node as "V1"
+        assertEquals(4, dictionary.lookup("V2147483648"));
+        assertEquals(5, dictionary.lookup("v1"));
+        assertEquals(-1, dictionary.lookup("V1"));
+        assertEquals(-1, dictionary.lookup("V"));
+        assertEquals(0, dictionary.intern("V2"));
+        assertEquals(6, dictionary.intern("V1"));
+        assertEquals("V01", dictionary.getName(3));
+        
+        // Ids are resolved once; both solvers work on them and still report names
+        Graph graph = new Graph(Arrays.asList("A", "V1", "V0", "B"), Arrays.asList(
+            new Edge("A", "V1", 4), new Edge("V1", "V0", 1), new Edge("V0", "B", 2), new Edge("A", "B", 3)));
+        assertEquals(2, graph.getEdgeFrom(2));
+        assertEquals(3, graph.getEdgeTo(2));
+        MSTResult prim = new PrimAlgorithm().findMST(graph);
+        MSTResult kruskal = new KruskalAlgorithm().findMST(graph);
+        assertEquals(6, prim.getTotalCost());
+        assertEquals(6, kruskal.getTotalCost());
+        assertEquals("V1", kruskal.getMstEdges().get(0).getFrom());
+        assertTrue(prim.getMstEdges().get(0).getFrom().equals("A"));
+        
+        try {
+            new Graph(Arrays.asList("A"), Arrays.asList(new Edge("A", "Z", 1)));
+            fail("Expected unknown endpoint to be rejected");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+    
+    @Test(timeout = 60_000)
+    public void testPipelinedProcessorKeepsOrderAndReportsStages() throws Exception {
+        StringBuilder json = new StringBuilder("{\"version\": 2, \"graphs\": [");
+        for (int id = 1; id <= 9; id++) {
+            json.append(id > 1 ? "," : "").append("{\"id\": ").append(id).append(", \"nodes\": [\"A\", \"B\", \"C\"], ")
+                .append("\"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": ").append(id)
+                .append("}, {\"from\": \"B\", \"to\": \"C\", \"weight\": 1}, {\"from\": \"A\", \"to\": \"C\", \"weight\": 5}]}");
+        }
+        json.append(", {\"id\": 10, \"points\": [[0, 0], [3, 4]]}]}");
+        Path input = Files.createTempFile("mst-input", ".json");
+        Path output = Files.createTempFile("mst-output", ".json");
+        Files.write(input, json.toString().getBytes("UTF-8"));
+        
+        MSTProcessor.processGraphs(input.toString(), output.toString());
+        com.google.gson.JsonObject written = com.google.gson.JsonParser.parseString(
+            new String(Files.readAllBytes(output), "UTF-8")).getAsJsonObject();
+        com.google.gson.JsonArray results = written.getAsJsonArray("results");
+        assertEquals(10, results.size());
+        for (int id = 1; id <= 9; id++) {
+            com.google.gson.JsonObject result = results.get(id - 1).getAsJsonObject();
+            assertEquals(id, result.get("graph_id").getAsInt());
+            assertEquals(1 + Math.min(id, 5), result.getAsJsonObject("kruskal").get("total_cost").getAsInt());
+            assertEquals(1 + Math.min(id, 5), result.getAsJsonObject("prim").get("total_cost").getAsInt());
+        }
+        assertEquals(5, results.get(9).getAsJsonObject().getAsJsonObject("euclidean").get("total_cost").getAsInt());
+        
+        com.google.gson.JsonObject stages = written.getAsJsonObject("pipeline").getAsJsonObject("stages");
+        for (String stage : Arrays.asList("reader", "solver", "writer")) {
+            assertEquals(10, stages.getAsJsonObject(stage).get("items").getAsInt());
+            assertTrue(stages.getAsJsonObject(stage).get("busy_ms").getAsDouble() >= 0);
+        }
+        assertTrue(stages.getAsJsonObject("reader").get("max_queue_depth").getAsInt() <= 4);
+        assertFalse(stages.getAsJsonObject("writer").has("max_queue_depth"));
+        
+        // A failing stage stops the others instead of leaving them blocked
+        Files.write(input, "{\"graphs\": [{\"id\": 1, \"nodes\": [\"A\"], \"edges\": [{\"from\": \"A\", \"to\": \"Z\", \"weight\": 1}]}]}"
+            .getBytes("UTF-8"));
+        try {
+            MSTProcessor.processGraphs(input.toString(), output.toString());
+            fail("Expected the unknown endpoint to be reported");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("Z"));
+        }
+        Files.delete(input);
+        Files.delete(output);
+    }
+    
+    @Test
+    public void testCompressedGraphDecodesAndSolves() {
+        Random random = new Random(5);
+        int[][] weightRanges = {{7, 7}, {1, 100}, {-50, 50}, {Integer.MIN_VALUE + 1, Integer.MAX_VALUE}};
+        for (int[] range : weightRanges) {
+            int vertices = 300;
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < vertices; i++) {
+                nodes.add("V" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < 1200; i++) {
+                int u = random.nextInt(vertices - 20); // the last 20 vertices stay isolated
+                int v = random.nextInt(i % 50 == 0 ? vertices - 20 : Math.min(vertices - 20, u + 30));
+                int w = (int) (range[0] + (long) (random.nextDouble() * ((long) range[1] - range[0])));
+                edges.add(new Edge("V" + u, "V" + v, w));
+                if (i % 100 == 0) {
+                    edges.add(new Edge("V" + u, "V" + v, w)); // parallel copy
+                }
+            }
+            Graph graph = new Graph(nodes, edges);
+            CompressedGraph compressed = CompressedGraph.of(graph);
+            
+            // Each vertex decodes to its sorted neighbors with their weights
+            List<List<long[]>> expected = new ArrayList<>();
+            for (int v = 0; v < vertices; v++) {
+                expected.add(new ArrayList<>());
+            }
+            int stored = 0;
+            for (int e = 0; e < graph.getEdgeCount(); e++) {
+                int u = graph.getEdgeFrom(e);
+                int v = graph.getEdgeTo(e);
+                if (u != v) {
+                    expected.get(u).add(new long[]{v, graph.getEdge(e).getWeight()});
+                    expected.get(v).add(new long[]{u, graph.getEdge(e).getWeight()});
+                    stored++;
+                }
+            }
+            assertEquals(stored, compressed.getEdgeCount());
+            CompressedGraph.Cursor cursor = compressed.cursor();
+            for (int v = 0; v < vertices; v++) {
+                List<long[]> list = expected.get(v);
+                list.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+                assertEquals(list.size(), compressed.getDegree(v));
+                cursor.reset(v);
+                for (long[] entry : list) {
+                    assertTrue(cursor.next());
+                    assertEquals(entry[0], cursor.neighbor());
+                    assertEquals(entry[1], cursor.weight());
+                }
+                assertFalse(cursor.next());
+            }
+            
+            MSTResult kruskal = new KruskalAlgorithm().findMST(graph);
+            MSTResult prim = new PrimAlgorithm().findMST(compressed);
+            assertEquals(kruskal.getTotalCost(), prim.getTotalCost());
+            assertEquals(kruskal.getMstEdges().size(), prim.getMstEdges().size());
+            if (range[0] >= 0) { // the bucket queue only takes non-negative keys
+                assertEquals(kruskal.getTotalCost(), new PrimAlgorithm(BucketQueue::new).findMST(compressed).getTotalCost());
+            }
+        }
+    }
+    
+    @Test
+    public void testVertexReorderingKeepsMSTAndImprovesLocality() {
+        GraphGenerator generator = new GraphGenerator(42);
+        Graph grid = generator.generateGraph(new GraphGenerator.TestGraphSpec("grid", 2500, 5000, 1000,
+            GraphGenerator.GraphFamily.GRID, GraphGenerator.WeightDistribution.UNIFORM));
+        int[] shuffle = new int[grid.getVertices()];
+        for (int i = 0; i < shuffle.length; i++) {
+            shuffle[i] = i;
+        }
+        Random random = new Random(1);
+        for (int i = shuffle.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = shuffle[i];
+            shuffle[i] = shuffle[j];
+            shuffle[j] = tmp;
+        }
+        Graph shuffled = VertexReordering.relabel(grid, shuffle);
+        assertEquals(grid.getNodeName(shuffle[7]), shuffled.getNodeName(7));
+        MSTResult expected = new KruskalAlgorithm().findMST(grid);
+        
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            int[] order = VertexReordering.order(shuffled, strategy);
+            assertEquals(shuffled.getVertices(), Arrays.stream(order).distinct().count());
+            Graph reordered = VertexReordering.reorder(shuffled, strategy);
+            assertEquals(grid.getEdgeCount(), reordered.getEdgeCount());
+            
+            // Results come back as the original edges, so names need no mapping
+            Set<Edge> gridEdges = Collections.newSetFromMap(new IdentityHashMap<>());
+            gridEdges.addAll(grid.getEdges());
+            MSTResult result = new PrimAlgorithm().findMST(reordered, new SolverWorkspace());
+            assertEquals(expected.getTotalCost(), result.getTotalCost());
+            assertTrue(gridEdges.containsAll(result.getMstEdges()));
+            assertEquals(expected.getTotalCost(), new KruskalAlgorithm().findMST(reordered).getTotalCost());
+            for (int e = 0; e < reordered.getEdgeCount(); e++) {
+                Edge edge = reordered.getEdge(e);
+                assertEquals(edge.getFrom(), reordered.getNodeName(reordered.getEdgeFrom(e)));
+                assertEquals(edge.getTo(), reordered.getNodeName(reordered.getEdgeTo(e)));
+            }
+        }
+        
+        // A shuffled grid regains locality under BFS and RCM
+        double shuffledSpan = VertexReordering.meanLogSpan(shuffled);
+        assertTrue(VertexReordering.meanLogSpan(VertexReordering.reorder(shuffled, VertexReordering.Strategy.BFS)) < shuffledSpan - 2);
+        assertTrue(VertexReordering.meanLogSpan(VertexReordering.reorder(shuffled, VertexReordering.Strategy.RCM)) < shuffledSpan - 2);
+        
+        try {
+            VertexReordering.relabel(grid, new int[grid.getVertices()]);
+            fail("Expected a non-permutation to be rejected");
+        } catch (IllegalArgumentException expectedFailure) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testSingleLinkageDendrogramMatchesThresholdedUnionFind() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 4; trial++) {
+            int vertices = 200;
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < vertices; i++) {
+                nodes.add("V" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < 500; i++) { // sparse, so some vertices stay unreachable
+                edges.add(new Edge("V" + random.nextInt(vertices), "V" + random.nextInt(vertices), random.nextInt(40) - 10));
+            }
+            Graph graph = new Graph(nodes, edges);
+            SingleLinkageDendrogram dendrogram = new SingleLinkageDendrogram(graph, new KruskalAlgorithm().findMST(graph));
+            
+            int[] thresholds = new int[60];
+            for (int i = 0; i < thresholds.length; i++) {
+                thresholds[i] = random.nextInt(50) - 15;
+            }
+            int[] counts = dendrogram.componentCounts(thresholds);
+            for (int i = 0; i < thresholds.length; i++) {
+                UnionFind expected = new UnionFind(vertices);
+                for (int e = 0; e < graph.getEdgeCount(); e++) {
+                    if (graph.getEdge(e).getWeight() <= thresholds[i]) {
+                        expected.union(graph.getEdgeFrom(e), graph.getEdgeTo(e));
+                    }
+                }
+                assertEquals(expected.getComponents(), counts[i]);
+                assertEquals(expected.getComponents(), dendrogram.componentCount(thresholds[i]));
+                
+                // Membership agrees with the union-find, and each cluster lists exactly its vertices
+                for (int v = 0; v < vertices; v++) {
+                    int cluster = dendrogram.clusterOf(v, thresholds[i]);
+                    for (int member : dendrogram.getMembers(cluster)) {
+                        assertTrue(expected.isConnected(v, member));
+                    }
+                    int size = 0;
+                    for (int u = 0; u < vertices; u++) {
+                        if (expected.isConnected(u, v)) {
+                            size++;
+                        }
+                    }
+                    assertEquals(size, dendrogram.clusterSize(cluster));
+                }
+            }
+            
+            // Cutting into k clusters covers every vertex exactly once
+            int minimum = vertices - dendrogram.getMerges();
+            for (int k : new int[]{minimum, minimum + 1, vertices / 2, vertices}) {
+                int[] clusters = dendrogram.cutToK(k);
+                assertEquals(k, clusters.length);
+                Set<Integer> covered = new HashSet<>();
+                for (int cluster : clusters) {
+                    for (int member : dendrogram.getMembers(cluster)) {
+                        assertTrue(covered.add(member));
+                    }
+                }
+                assertEquals(vertices, covered.size());
+                assertTrue(dendrogram.componentCount(dendrogram.thresholdForClusters(k)) <= k);
+            }
+        }
+        
+        Graph path = new Graph(Arrays.asList("A", "B", "C", "D"),
+            Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 5), new Edge("C", "D", 2)));
+        SingleLinkageDendrogram dendrogram = new SingleLinkageDendrogram(path, new KruskalAlgorithm().findMST(path));
+        assertEquals(Arrays.asList("A", "B"), sorted(dendrogram.getMemberNames(dendrogram.clusterOf("A", 4))));
+        assertEquals(Arrays.asList("C", "D"), sorted(dendrogram.getMemberNames(dendrogram.clusterOf("D", 4))));
+        assertEquals(dendrogram.clusterOf("A", 5), dendrogram.clusterOf("D", 5));
+        assertEquals(5, dendrogram.thresholdForClusters(1));
+        assertEquals(2, dendrogram.thresholdForClusters(2));
+    }
+    
+    private static List<String> sorted(List<String> names) {
+        List<String> copy = new ArrayList<>(names);
+        Collections.sort(copy);
+        return copy;
+    }
+    
+    @Test(timeout = 60_000)
+    public void testLongAndDoubleWeightPathsMatchIntPath() throws Exception {
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        for (int trial = 0; trial < 6; trial++) {
+            Graph graph = new GraphGenerator(trial).generateGraph(400, 1200 + 200 * trial, trial % 2 == 0 ? 10 : 100000);
+            MSTResult expected = kruskal.findMST(graph);
+            long treeEdges = expected.getMstEdges().size();
+            
+            LongWeightGraph longGraph = LongWeightGraph.of(graph);
+            assertEquals(expected.getTotalCost(), prim.findMST(longGraph, CancellationToken.NONE).getTotalCost());
+            assertEquals(expected.getTotalCost(), kruskal.findMST(longGraph, CancellationToken.NONE).getTotalCost());
+            
+            // Scaled and shifted far outside the int range, negatives included: radix sort path
+            long scale = 1L << 33;
+            long shift = 1L << 50;
+            long[] wide = new long[graph.getEdgeCount()];
+            int[] from = new int[graph.getEdgeCount()];
+            int[] to = new int[graph.getEdgeCount()];
+            double[] eighths = new double[graph.getEdgeCount()];
+            for (int e = 0; e < wide.length; e++) {
+                wide[e] = graph.getEdge(e).getWeight() * scale - shift;
+                from[e] = graph.getEdgeFrom(e);
+                to[e] = graph.getEdgeTo(e);
+                eighths[e] = -graph.getEdge(e).getWeight() / -8.0; // exact, and -0.0 for weight 0
+            }
+            LongWeightGraph wideGraph = new LongWeightGraph(graph.getDictionary(), from, to, wide);
+            long wideCost = expected.getTotalCost() * scale - treeEdges * shift;
+            LongMSTResult widePrim = prim.findMST(wideGraph, CancellationToken.NONE);
+            LongMSTResult wideKruskal = kruskal.findMST(wideGraph, CancellationToken.NONE);
+            assertEquals(wideCost, widePrim.getTotalCost());
+            assertEquals(wideCost, wideKruskal.getTotalCost());
+            assertEquals(treeEdges, widePrim.getMstEdges().length);
+            
+            DoubleWeightGraph doubleGraph = new DoubleWeightGraph(graph.getDictionary(), from, to, eighths);
+            assertEquals(expected.getTotalCost() / 8.0, prim.findMST(doubleGraph, CancellationToken.NONE).getTotalCost(), 0);
+            assertEquals(expected.getTotalCost() / 8.0, kruskal.findMST(doubleGraph, CancellationToken.NONE).getTotalCost(), 0);
+        }
+        
+        // Sort keys order doubles like the doubles themselves
+        double[] ordered = {Double.NEGATIVE_INFINITY, -1e300, -2.5, -Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE, 3, 1e300};
+        for (int i = 1; i < ordered.length; i++) {
+            assertTrue(DoubleWeightGraph.orderedBits(ordered[i - 1]) < DoubleWeightGraph.orderedBits(ordered[i]));
+        }
+        
+        // int weights whose sum overflows an int
+        Graph heavy = new Graph(Arrays.asList("A", "B", "C", "D"), Arrays.asList(new Edge("A", "B", 2_000_000_000),
+            new Edge("B", "C", 2_000_000_000), new Edge("C", "D", 2_000_000_000)));
+        assertEquals(6_000_000_000L, prim.findMST(heavy).getTotalCost());
+        assertEquals(6_000_000_000L, kruskal.findMST(heavy, new SolverWorkspace()).getTotalCost());
+        
+        // The processor picks the weight type per graph
+        String json = "{\"graphs\": ["
+            + "{\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 3},"
+            + " {\"from\": \"B\", \"to\": \"C\", \"weight\": 4}]},"
+            + "{\"id\": 2, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 5000000000},"
+            + " {\"from\": \"B\", \"to\": \"C\", \"weight\": 4}, {\"from\": \"A\", \"to\": \"C\", \"weight\": 9000000000}]},"
+            + "{\"id\": 3, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 0.25},"
+            + " {\"from\": \"B\", \"to\": \"C\", \"weight\": -1.5e0}, {\"from\": \"A\", \"to\": \"C\", \"weight\": 2}]}]}";
+        Path input = Files.createTempFile("mst-input", ".json");
+        Path output = Files.createTempFile("mst-output", ".json");
+        Files.write(input, json.getBytes("UTF-8"));
+        MSTProcessor.processGraphs(input.toString(), output.toString());
+        com.google.gson.JsonArray results = com.google.gson.JsonParser.parseString(
+            new String(Files.readAllBytes(output), "UTF-8")).getAsJsonObject().getAsJsonArray("results");
+        String[] types = {"int", "long", "double"};
+        for (int i = 0; i < 3; i++) {
+            assertEquals(types[i], results.get(i).getAsJsonObject().getAsJsonObject("input_stats").get("weight_type").getAsString());
+        }
+        for (String solver : Arrays.asList("prim", "kruskal")) {
+            assertEquals(7, results.get(0).getAsJsonObject().getAsJsonObject(solver).get("total_cost").getAsLong());
+            assertEquals(5_000_000_004L, results.get(1).getAsJsonObject().getAsJsonObject(solver).get("total_cost").getAsLong());
+            assertEquals(-1.25, results.get(2).getAsJsonObject().getAsJsonObject(solver).get("total_cost").getAsDouble(), 0);
+        }
+        Files.delete(input);
+        Files.delete(output);
+    }
 }